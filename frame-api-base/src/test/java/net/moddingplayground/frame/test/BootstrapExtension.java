@@ -0,0 +1,18 @@
+package net.moddingplayground.frame.test;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Bootstraps the game registries before the tests of a class, for tests that need blocks, game rules or tags.
+ * Shared with the tests of every module.
+ */
+public final class BootstrapExtension implements BeforeAllCallback {
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+}
@@ -1,32 +1,55 @@
 package net.moddingplayground.frame.api.config.v0;
 
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.internal.Streams;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import me.shedaniel.clothconfig2.api.ConfigCategory;
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 import net.moddingplayground.frame.api.config.v0.option.Option;
+import net.moddingplayground.frame.impl.config.ConfigCache;
+import net.moddingplayground.frame.impl.config.ConfigFiles;
+import net.moddingplayground.frame.impl.config.ConfigSync;
+import net.moddingplayground.frame.impl.config.ConfigWatcher;
+import net.moddingplayground.frame.impl.config.ConfigWriter;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 public class Config {
@@ -34,7 +57,17 @@ public class Config {
     private final File backupFile;
     protected final HashBiMap<Identifier, Option<?>> map = HashBiMap.create();
 
-    private JsonObject oldJson;
+    private volatile ImmutableBiMap<Identifier, Option<?>> options;
+    private Map<String, JsonElement> unknownEntries = Map.of();
+    private boolean asyncSave;
+    private boolean hotReload;
+    private Identifier syncId;
+    private boolean binaryCache;
+    private volatile HashCode contentHash;
+    private final Set<Identifier> changed = ConcurrentHashMap.newKeySet();
+
+    private Reference2IntMap<Option<?>> indices;
+    private volatile ConfigSnapshot snapshot;
 
     public Config(File file) {
         this.file = file;
@@ -43,14 +76,53 @@ public class Config {
 
     protected <T, O extends Option<T>> O add(Identifier id, O option) {
         this.map.put(id, option);
+        this.options = null;
+        option.addListener(value -> this.changed.add(id));
+        synchronized (this) {
+            this.indices = null;
+            this.snapshot = null;
+        }
         return option;
     }
 
+    /**
+     * Gets a consistent view of every option as of the last load, reload, save or {@linkplain #update(Runnable) update}.
+     * Unlike reading options directly, this is safe from any thread, and waits for the config if it is still {@linkplain ConfigRegistry loading}.
+     */
+    public ConfigSnapshot getSnapshot() {
+        ConfigSnapshot snapshot = this.snapshot;
+        if (snapshot != null) return snapshot;
+
+        // there is no snapshot before the first load is done, so only this path has to wait for it
+        ConfigRegistry.INSTANCE.join(this);
+        synchronized (this) {
+            snapshot = this.snapshot;
+            return snapshot != null ? snapshot : this.publishSnapshot();
+        }
+    }
+
+    /**
+     * Captures the current values of every option. Must be called while holding the lock of this config.
+     */
+    private ConfigSnapshot publishSnapshot() {
+        if (this.indices == null) {
+            Reference2IntMap<Option<?>> indices = new Reference2IntOpenHashMap<>(this.map.size());
+            indices.defaultReturnValue(-1);
+            for (Option<?> option : this.getOptions().values()) indices.put(option, indices.size());
+            this.indices = indices;
+        }
+
+        ConfigSnapshot previous = this.snapshot;
+        ConfigSnapshot snapshot = ConfigSnapshot.capture(this.indices, this.getOptions().values(), previous == null ? 0 : previous.getVersion() + 1);
+        this.snapshot = snapshot;
+        return snapshot;
+    }
+
     @Environment(EnvType.CLIENT)
     public void addConfigListEntries(ConfigEntryBuilder entryBuilder, Supplier<ConfigCategory> categoryCreator) {
         if (this.canDisplayInMenu()) {
             ConfigCategory category = categoryCreator.get();
-            for (Map.Entry<Identifier, Option<?>> entry : this.getDisplayedOptions().entrySet()) {
+            for (Map.Entry<Identifier, Option<?>> entry : this.displayedOptions().entrySet()) {
                 Identifier id = entry.getKey();
                 Option<?> option = entry.getValue();
                 option.addConfigEntries(category, id, entryBuilder);
@@ -58,75 +130,334 @@ public class Config {
         }
     }
 
+    /**
+     * Gets an immutable view of every option, in the order they were added.
+     * The view is built once and shared, so it is cheap to call repeatedly.
+     */
+    public final ImmutableBiMap<Identifier, Option<?>> getOptions() {
+        ImmutableBiMap<Identifier, Option<?>> options = this.options;
+        if (options == null) this.options = options = ImmutableBiMap.copyOf(this.map);
+        return options;
+    }
+
+    /**
+     * @deprecated copies every option, use {@link #getOptions()} instead
+     */
+    @Deprecated
     public final HashBiMap<Identifier, Option<?>> getMap() {
-        return HashBiMap.create(this.map);
+        return HashBiMap.create(this.getOptions());
     }
 
+    /**
+     * Gets the options shown in the config screen, without copying them. Every option unless overridden.
+     */
+    protected Map<Identifier, Option<?>> displayedOptions() {
+        return this.map;
+    }
+
+    /**
+     * @deprecated copies the displayed options, override {@link #displayedOptions()} instead
+     */
+    @Deprecated
     public HashBiMap<Identifier, Option<?>> getDisplayedOptions() {
-        return HashBiMap.create(this.map);
+        return HashBiMap.create(this.displayedOptions());
+    }
+
+    public final int size() {
+        return this.map.size();
+    }
+
+    public final boolean isEmpty() {
+        return this.map.isEmpty();
     }
 
     @Environment(EnvType.CLIENT)
     public boolean canDisplayInMenu() {
-        return !this.getDisplayedOptions().isEmpty();
+        return !this.displayedOptions().isEmpty();
+    }
+
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Makes {@link #save()} write this config on a background thread instead of the calling one.
+     */
+    public void setAsyncSave(boolean asyncSave) {
+        this.asyncSave = asyncSave;
+    }
+
+    public boolean isAsyncSave() {
+        return this.asyncSave;
+    }
+
+    /**
+     * Reloads this config whenever its file is changed on disk.
+     *
+     * @see ConfigReloadedCallback
+     */
+    public void setHotReload(boolean hotReload) {
+        this.hotReload = hotReload;
+        if (hotReload) ConfigWatcher.watch(this);
+        else ConfigWatcher.unwatch(this);
+    }
+
+    public boolean isHotReload() {
+        return this.hotReload;
+    }
+
+    /**
+     * Keeps a binary copy of this config, which is loaded instead of the JSON file for as long as that file is unchanged.
+     */
+    public void setBinaryCache(boolean binaryCache) {
+        this.binaryCache = binaryCache;
+    }
+
+    public boolean isBinaryCache() {
+        return this.binaryCache;
+    }
+
+    /**
+     * Makes the server the authority over this config. Players receive the values of the server when they join,
+     * followed by every change once per tick, and get their own values back when they leave.
+     * Must be called once every option has been added, with an id that is the same on both sides.
+     */
+    public void setSynced(Identifier syncId) {
+        this.syncId = syncId;
+        ConfigSync.register(syncId, this);
+    }
+
+    @Nullable
+    public Identifier getSyncId() {
+        return this.syncId;
+    }
+
+    /**
+     * Applies changes to options and fires a single {@link ConfigChangedCallback} for them, as a load would.
+     * The changes are made while holding the lock of this config, so {@linkplain #getSnapshot() snapshots}
+     * never show only some of them.
+     */
+    public synchronized void update(Runnable changes) {
+        changes.run();
+        this.fireChanged();
     }
 
     public void save() {
+        if (this.asyncSave) {
+            this.saveAsync();
+            return;
+        }
+
+        this.fireChanged();
+        try {
+            this.write();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes this config on a background thread. Saves requested while a write is still queued are coalesced into it.
+     * Pending writes are flushed when the game shuts down.
+     *
+     * @return a future completed once this config has been written
+     */
+    public CompletableFuture<Void> saveAsync() {
+        this.fireChanged();
+        return ConfigWriter.submit(this, () -> {
+            this.write();
+            return null;
+        });
+    }
+
+    private synchronized void write() throws IOException {
         File folder = this.file.getParentFile();
         if (folder.exists() || folder.mkdirs()) {
-            try (PrintWriter out = new PrintWriter(this.file)) {
-                JsonObject jsonObject = Optional.ofNullable(this.oldJson).map(JsonObject::deepCopy)
-                                                .orElseGet(JsonObject::new);
-                this.map.forEach((id, option) -> jsonObject.add(id.toString(), option.toJson()));
-
-                StringWriter writer = new StringWriter();
-                Streams.write(jsonObject, createJsonWriter(writer));
-                out.println(writer);
-            } catch (IOException e) {
-                e.printStackTrace();
+            StringWriter writer = new StringWriter();
+            JsonWriter json = createJsonWriter(writer);
+            json.beginObject();
+            for (Map.Entry<Identifier, Option<?>> entry : this.getOptions().entrySet()) {
+                json.name(entry.getKey().toString());
+                Streams.write(entry.getValue().toJson(), json);
+            }
+            for (Map.Entry<String, JsonElement> entry : this.unknownEntries.entrySet()) {
+                json.name(entry.getKey());
+                Streams.write(entry.getValue(), json);
             }
+            json.endObject();
+            json.flush();
+            writer.write(System.lineSeparator());
+            byte[] bytes = writer.toString().getBytes(StandardCharsets.UTF_8);
+
+            // skip the write if nothing changed since the file was last read or written
+            HashCode hash = ConfigFiles.hash(bytes);
+            if (hash.equals(this.contentHash) && this.file.exists()) return;
+
+            ConfigFiles.write(this.file.toPath(), this.backupFile.toPath(), bytes);
+            this.contentHash = hash;
+            this.writeCache();
         } else throw new RuntimeException("Fatal error! Could not find config %s".formatted(this.file));
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Config> T load() {
-        try {
-            Files.copy(this.file.toPath(), this.backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        if (this.binaryCache && this.readCache()) return (T) this;
+
+        try (InputStream stream = Files.newInputStream(this.file.toPath())) {
+            this.read(stream);
         } catch (NoSuchFileException | FileNotFoundException e) {
             this.save();
         } catch (IOException e) {
             e.printStackTrace();
         }
 
+        return (T) this;
+    }
+
+    /**
+     * Loads this config again if its file differs from what was last read or written.
+     *
+     * @return whether this config was reloaded
+     */
+    public synchronized boolean reloadIfChanged() {
         try {
-            Path path = this.file.toPath();
-            String json = new String(Files.readAllBytes(path));
-            if (!json.isEmpty()) {
-                JsonObject jsonObject = (JsonObject) JsonParser.parseString(json);
-
-                this.oldJson = jsonObject;
-                Set<Identifier> loadedConfigs = new HashSet<>();
-
-                for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-                    String id = entry.getKey();
-                    JsonElement jsonElement = entry.getValue();
-
-                    Identifier identifier = Identifier.tryParse(id);
-                    Optional.ofNullable(this.map.get(identifier)).ifPresent(option -> {
-                        option.fromJson(jsonElement);
-                        loadedConfigs.add(identifier);
-                    });
-                }
-
-                if (!loadedConfigs.equals(this.map.keySet())) this.save();
-            } else this.save();
+            byte[] bytes = Files.readAllBytes(this.file.toPath());
+            if (ConfigFiles.hash(bytes).equals(this.contentHash)) return false;
+            this.read(new ByteArrayInputStream(bytes));
+            return true;
         } catch (NoSuchFileException | FileNotFoundException e) {
-            this.save();
+            return false;
         } catch (IOException e) {
             e.printStackTrace();
+            return false;
         }
+    }
 
-        return (T) this;
+    /**
+     * Streams the options of this config from its JSON, without building a tree of the whole file.
+     * Entries that are not options of this config are kept aside, to be written back when saving.
+     */
+    private synchronized void read(InputStream stream) throws IOException {
+        HashingInputStream hashing = new HashingInputStream(ConfigFiles.HASH_FUNCTION, stream);
+        JsonReader reader = new JsonReader(new InputStreamReader(hashing, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+
+        if (!isEmpty(reader)) {
+            Map<String, JsonElement> unknownEntries = new LinkedHashMap<>();
+            Set<Identifier> loadedConfigs = new HashSet<>();
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String id = reader.nextName();
+                JsonElement jsonElement = Streams.parse(reader);
+
+                Identifier identifier = Identifier.tryParse(id);
+                Option<?> option = identifier == null ? null : this.map.get(identifier);
+                if (option != null) {
+                    option.fromJson(jsonElement);
+                    loadedConfigs.add(identifier);
+                } else unknownEntries.put(id, jsonElement);
+            }
+            reader.endObject();
+
+            ByteStreams.exhaust(hashing);
+            this.unknownEntries = unknownEntries.isEmpty() ? Map.of() : unknownEntries;
+            this.contentHash = hashing.hash();
+
+            if (!loadedConfigs.equals(this.map.keySet())) this.save();
+            else this.writeCache();
+        } else this.save();
+
+        this.fireChanged();
+    }
+
+    /**
+     * Loads this config from its binary cache, if it is still valid for the JSON file.
+     * Nothing is applied unless the whole cache could be read.
+     */
+    private synchronized boolean readCache() {
+        PacketByteBuf buf = ConfigCache.read(this.file.toPath(), this.getCacheLayout());
+        if (buf == null) return false;
+
+        Collection<Option<?>> options = this.getOptions().values();
+        HashCode hash;
+        Map<String, JsonElement> unknownEntries = new LinkedHashMap<>();
+        Object[] values = new Object[options.size()];
+        try {
+            hash = HashCode.fromBytes(buf.readByteArray());
+            for (int i = 0, size = buf.readVarInt(); i < size; i++) unknownEntries.put(buf.readString(), JsonParser.parseString(buf.readString()));
+
+            int i = 0;
+            for (Option<?> option : options) values[i++] = option.readValue(buf);
+        } catch (RuntimeException e) {
+            // fall back to the JSON file, nothing has been applied yet
+            return false;
+        }
+
+        int i = 0;
+        for (Option<?> option : options) setValue(option, values[i++]);
+        this.unknownEntries = unknownEntries.isEmpty() ? Map.of() : unknownEntries;
+        this.contentHash = hash;
+
+        this.fireChanged();
+        return true;
+    }
+
+    private synchronized void writeCache() {
+        HashCode hash = this.contentHash;
+        if (!this.binaryCache || hash == null) return;
+
+        ConfigCache.write(this.file.toPath(), this.getCacheLayout(), buf -> {
+            buf.writeByteArray(hash.asBytes());
+            buf.writeVarInt(this.unknownEntries.size());
+            this.unknownEntries.forEach((key, json) -> {
+                buf.writeString(key);
+                buf.writeString(json.toString());
+            });
+            for (Option<?> option : this.getOptions().values()) option.write(buf);
+        });
+    }
+
+    /**
+     * @return a hash of the id and {@linkplain Option#getSchema() schema} of every option, which a cache must have been written with
+     */
+    private HashCode getCacheLayout() {
+        Hasher hasher = ConfigFiles.HASH_FUNCTION.newHasher();
+        for (Map.Entry<Identifier, Option<?>> entry : this.getOptions().entrySet()) {
+            hasher.putString(entry.getKey().toString(), StandardCharsets.UTF_8);
+            hasher.putString(entry.getValue().getSchema(), StandardCharsets.UTF_8);
+        }
+        return hasher.hash();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void setValue(Option<T> option, Object value) {
+        option.setValue((T) value);
+    }
+
+    private static boolean isEmpty(JsonReader reader) throws IOException {
+        try {
+            return reader.peek() == JsonToken.END_DOCUMENT;
+        } catch (EOFException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Fires a single {@link ConfigChangedCallback} for every option that changed since the last one,
+     * after publishing a snapshot with their new values.
+     */
+    private void fireChanged() {
+        if (this.changed.isEmpty()) return;
+
+        Set<Identifier> ids = new LinkedHashSet<>();
+        synchronized (this) {
+            for (Identifier id : this.getOptions().keySet()) {
+                if (this.changed.remove(id)) ids.add(id);
+            }
+            if (!ids.isEmpty()) this.publishSnapshot();
+        }
+        if (!ids.isEmpty()) ConfigChangedCallback.EVENT.invoker().onChanged(this, Collections.unmodifiableSet(ids));
     }
 
     public static JsonWriter createJsonWriter(StringWriter stringWriter) {
@@ -0,0 +1,28 @@
+package net.moddingplayground.frame.api.config.v0;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.util.Identifier;
+
+import java.util.Set;
+
+/**
+ * Callback for options of a config that changed.
+ * <p>Changes are batched: a whole load, reload or save fires a single callback
+ * listing every option that changed since the previous one, on the thread that loaded or saved.
+ * Listen on individual {@linkplain net.moddingplayground.frame.api.config.v0.option.Option#addListener options} to be notified immediately.</p>
+ *
+ * <p>The initial load of a config registered to {@link ConfigRegistry} happens on a background loader thread,
+ * as do its callbacks, while holding the lock of the config. Hot reloads fire on the server thread, or the client thread if there is no server,
+ * and synced values from a server on the client thread.</p>
+ */
+public interface ConfigChangedCallback {
+    Event<ConfigChangedCallback> EVENT = EventFactory.createArrayBacked(ConfigChangedCallback.class, listeners -> (config, changed) -> {
+        for (ConfigChangedCallback event : listeners) event.onChanged(config, changed);
+    });
+
+    /**
+     * @param changed the ids of changed options, in the order they were added to the config
+     */
+    void onChanged(Config config, Set<Identifier> changed);
+}
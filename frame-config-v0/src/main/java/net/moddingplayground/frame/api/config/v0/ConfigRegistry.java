@@ -0,0 +1,35 @@
+package net.moddingplayground.frame.api.config.v0;
+
+import net.moddingplayground.frame.impl.config.ConfigRegistryImpl;
+
+/**
+ * Loads registered configs concurrently, instead of one after another during initialization.
+ *
+ * <p>Registering a config starts loading it on a background thread, where its {@link ConfigChangedCallback}
+ * and any option listeners are called as well. {@linkplain Config#getSnapshot() Snapshots} wait for the load to finish.
+ * Options read directly are only loaded once the config has been {@linkplain #join(Config) joined}, which also makes
+ * the loaded values visible to the joining thread. Frame joins every config in its own client and dedicated server
+ * entrypoints, which may run after those of other mods.</p>
+ */
+public interface ConfigRegistry {
+    ConfigRegistry INSTANCE = new ConfigRegistryImpl();
+
+    /**
+     * Registers a config and starts loading it in the background.
+     *
+     * @return the config
+     */
+    <T extends Config> T register(T config);
+
+    /**
+     * Waits until the given config has been loaded.
+     *
+     * @return the config
+     */
+    <T extends Config> T join(T config);
+
+    /**
+     * Waits until every registered config has been loaded.
+     */
+    void join();
+}
@@ -0,0 +1,17 @@
+package net.moddingplayground.frame.api.config.v0;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+
+/**
+ * Callback for configs that were reloaded after their file was changed on disk.
+ * <p>Only fired for configs with {@linkplain Config#setHotReload(boolean) hot reloading} enabled,
+ * on the server thread, or the client thread if there is no server.</p>
+ */
+public interface ConfigReloadedCallback {
+    Event<ConfigReloadedCallback> EVENT = EventFactory.createArrayBacked(ConfigReloadedCallback.class, listeners -> config -> {
+        for (ConfigReloadedCallback event : listeners) event.onReloaded(config);
+    });
+
+    void onReloaded(Config config);
+}
@@ -0,0 +1,84 @@
+package net.moddingplayground.frame.api.config.v0;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import net.moddingplayground.frame.api.config.v0.option.BooleanOption;
+import net.moddingplayground.frame.api.config.v0.option.ColorOption;
+import net.moddingplayground.frame.api.config.v0.option.IntOption;
+import net.moddingplayground.frame.api.config.v0.option.Option;
+
+import java.util.Collection;
+
+/**
+ * An immutable view of the values of every option of a {@link Config} at one point in time.
+ * Snapshots are safe to read from any thread and never show a partially applied load, save or update.
+ *
+ * <p>Values of int, color and boolean options are kept unboxed.</p>
+ */
+public final class ConfigSnapshot {
+    private final Reference2IntMap<Option<?>> indices;
+    private final Object[] values;
+    private final int[] ints;
+    private final boolean[] booleans;
+    private final int version;
+
+    private ConfigSnapshot(Reference2IntMap<Option<?>> indices, Object[] values, int[] ints, boolean[] booleans, int version) {
+        this.indices = indices;
+        this.values = values;
+        this.ints = ints;
+        this.booleans = booleans;
+        this.version = version;
+    }
+
+    static ConfigSnapshot capture(Reference2IntMap<Option<?>> indices, Collection<Option<?>> options, int version) {
+        int size = options.size();
+        Object[] values = new Object[size];
+        int[] ints = new int[size];
+        boolean[] booleans = new boolean[size];
+
+        int index = 0;
+        for (Option<?> option : options) {
+            if (option instanceof IntOption intOption) ints[index] = intOption.getInt();
+            else if (option instanceof ColorOption colorOption) ints[index] = colorOption.getInt();
+            else if (option instanceof BooleanOption booleanOption) booleans[index] = booleanOption.getBoolean();
+            else values[index] = option.getValue();
+            index++;
+        }
+
+        return new ConfigSnapshot(indices, values, ints, booleans, version);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Option<T> option) {
+        int index = this.indexOf(option);
+        if (isInt(option)) return (T) Integer.valueOf(this.ints[index]);
+        if (option instanceof BooleanOption) return (T) Boolean.valueOf(this.booleans[index]);
+        return (T) this.values[index];
+    }
+
+    public int getInt(Option<Integer> option) {
+        int index = this.indexOf(option);
+        return isInt(option) ? this.ints[index] : (Integer) this.values[index];
+    }
+
+    public boolean getBoolean(Option<Boolean> option) {
+        int index = this.indexOf(option);
+        return option instanceof BooleanOption ? this.booleans[index] : (Boolean) this.values[index];
+    }
+
+    /**
+     * @return a counter incremented with every snapshot of the config
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    private int indexOf(Option<?> option) {
+        int index = this.indices.getInt(option);
+        if (index < 0) throw new IllegalArgumentException("Option %s is not part of this config".formatted(option));
+        return index;
+    }
+
+    private static boolean isInt(Option<?> option) {
+        return option instanceof IntOption || option instanceof ColorOption;
+    }
+}
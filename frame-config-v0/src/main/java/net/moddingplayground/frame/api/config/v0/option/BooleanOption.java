@@ -6,34 +6,87 @@ import me.shedaniel.clothconfig2.api.ConfigCategory;
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 
 public class BooleanOption extends Option<Boolean> {
+    private boolean value;
+
     protected BooleanOption(Boolean defaultValue) {
         super(defaultValue);
+        this.value = defaultValue;
     }
 
     public static BooleanOption of(boolean defaultValue) {
         return new BooleanOption(defaultValue);
     }
 
+    public boolean getBoolean() {
+        return this.value;
+    }
+
+    public boolean isTrue() {
+        return this.getBoolean();
+    }
+
+    public void setBoolean(boolean value) {
+        if (this.hasRemoteValue()) super.setValue(value);
+        else this.apply(value);
+    }
+
+    private void apply(boolean value) {
+        if (this.value != value) {
+            this.value = value;
+            this.onChanged();
+        }
+    }
+
+    public boolean is(boolean other) {
+        return this.getBoolean() == other;
+    }
+
+    @Override
+    public Boolean getValue() {
+        return this.value;
+    }
+
+    @Override
+    public void setValue(Boolean value) {
+        this.setBoolean(value);
+    }
+
+    @Override
+    protected void applyValue(Boolean value) {
+        this.apply(value);
+    }
+
     @Override
     public JsonElement toJson() {
-        return new JsonPrimitive(this.getValue());
+        return new JsonPrimitive(this.getLocalValue());
     }
 
     @Override
     public void fromJson(JsonElement json) {
         if (json instanceof JsonPrimitive primitive && primitive.isBoolean()) {
-            this.setValue(primitive.getAsBoolean());
+            this.setBoolean(primitive.getAsBoolean());
         } else invalidConfig(json);
     }
 
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeBoolean(this.getLocalValue());
+    }
+
+    @Override
+    public Boolean readValue(PacketByteBuf buf) {
+        return buf.readBoolean();
+    }
+
     @Override
     @Environment(EnvType.CLIENT)
     public void addConfigEntries(ConfigCategory category, Identifier id, ConfigEntryBuilder builder) {
         category.addEntry(
-            builder.startBooleanToggle(this.getTitle(id), this.getValue())
+            builder.startBooleanToggle(this.getTitle(id), this.getLocalValue())
                    .setDefaultValue(this.getDefaultValue())
                    .setSaveConsumer(this::setValue)
                    .setTooltip(this.getTooltipArray(id))
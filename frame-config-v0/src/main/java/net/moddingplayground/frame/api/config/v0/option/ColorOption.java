@@ -6,34 +6,83 @@ import me.shedaniel.clothconfig2.api.ConfigCategory;
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
 
 public class ColorOption extends Option<Integer> {
+    private int value;
+
     protected ColorOption(Integer defaultValue) {
         super(defaultValue);
+        this.value = defaultValue;
     }
 
     public static ColorOption of(int defaultValue) {
         return new ColorOption(defaultValue);
     }
 
+    public int getInt() {
+        return this.value;
+    }
+
+    public void setInt(int value) {
+        if (this.hasRemoteValue()) super.setValue(value);
+        else this.apply(value);
+    }
+
+    private void apply(int value) {
+        if (this.value != value) {
+            this.value = value;
+            this.onChanged();
+        }
+    }
+
+    public boolean is(int other) {
+        return this.getInt() == other;
+    }
+
+    @Override
+    public Integer getValue() {
+        return this.value;
+    }
+
+    @Override
+    public void setValue(Integer value) {
+        this.setInt(value);
+    }
+
+    @Override
+    protected void applyValue(Integer value) {
+        this.apply(value);
+    }
+
     @Override
     public JsonElement toJson() {
-        return new JsonPrimitive(this.getValue());
+        return new JsonPrimitive(this.getLocalValue());
     }
 
     @Override
     public void fromJson(JsonElement json) {
         if (json instanceof JsonPrimitive primitive && primitive.isNumber()) {
-            this.setValue(primitive.getAsInt());
+            this.setInt(primitive.getAsInt());
         } else invalidConfig(json);
     }
 
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeInt(this.getLocalValue());
+    }
+
+    @Override
+    public Integer readValue(PacketByteBuf buf) {
+        return buf.readInt();
+    }
+
     @Override
     @Environment(EnvType.CLIENT)
     public void addConfigEntries(ConfigCategory category, Identifier id, ConfigEntryBuilder builder) {
         category.addEntry(
-            builder.startColorField(this.getTitle(id), this.getValue())
+            builder.startColorField(this.getTitle(id), this.getLocalValue())
                    .setDefaultValue(this.getDefaultValue())
                    .setSaveConsumer(this::setValue)
                    .setTooltip(this.getTooltipArray(id))
@@ -6,9 +6,12 @@ import me.shedaniel.clothconfig2.api.ConfigCategory;
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 
+import java.util.Arrays;
+
 public class EnumOption<T extends Enum<T>> extends Option<T> {
     private final Class<T> clazz;
 
@@ -23,7 +26,7 @@ public class EnumOption<T extends Enum<T>> extends Option<T> {
 
     @Override
     public JsonElement toJson() {
-        return new JsonPrimitive(String.valueOf(this.getValue()));
+        return new JsonPrimitive(String.valueOf(this.getLocalValue()));
     }
 
     @Override
@@ -33,11 +36,26 @@ public class EnumOption<T extends Enum<T>> extends Option<T> {
         } else invalidConfig(json);
     }
 
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeEnumConstant(this.getLocalValue());
+    }
+
+    @Override
+    public T readValue(PacketByteBuf buf) {
+        return buf.readEnumConstant(this.clazz);
+    }
+
+    @Override
+    public String getSchema() {
+        return "%s%s".formatted(super.getSchema(), Arrays.stream(this.clazz.getEnumConstants()).map(Enum::name).toList());
+    }
+
     @Override
     @Environment(EnvType.CLIENT)
     public void addConfigEntries(ConfigCategory category, Identifier id, ConfigEntryBuilder builder) {
         category.addEntry(
-            builder.startEnumSelector(this.getTitle(id), this.clazz, this.getValue())
+            builder.startEnumSelector(this.getTitle(id), this.clazz, this.getLocalValue())
                    .setDefaultValue(this.getDefaultValue())
                    .setSaveConsumer(this::setValue)
                    .setTooltip(this.getTooltipArray(id))
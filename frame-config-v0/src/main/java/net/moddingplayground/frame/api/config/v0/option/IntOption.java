@@ -7,17 +7,20 @@ import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import me.shedaniel.clothconfig2.impl.builders.IntFieldBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 
 public class IntOption extends Option<Integer> {
     private final Integer min;
     private final Integer max;
+    private int value;
 
     protected IntOption(Integer defaultValue, Integer min, Integer max) {
         super(defaultValue);
         this.min = min;
         this.max = max;
+        this.value = defaultValue;
     }
 
     public static IntOption of(Integer defaultValue, Integer min, Integer max) {
@@ -40,24 +43,74 @@ public class IntOption extends Option<Integer> {
         return this.min != null && this.max != null;
     }
 
+    public int getInt() {
+        return this.value;
+    }
+
+    public void setInt(int value) {
+        if (this.hasRemoteValue()) super.setValue(value);
+        else this.apply(value);
+    }
+
+    private void apply(int value) {
+        if (this.value != value) {
+            this.value = value;
+            this.onChanged();
+        }
+    }
+
+    public boolean is(int other) {
+        return this.getInt() == other;
+    }
+
+    @Override
+    public Integer getValue() {
+        return this.value;
+    }
+
+    @Override
+    public void setValue(Integer value) {
+        this.setInt(value);
+    }
+
+    @Override
+    protected void applyValue(Integer value) {
+        this.apply(value);
+    }
+
     @Override
     public JsonElement toJson() {
-        return new JsonPrimitive(this.getValue());
+        return new JsonPrimitive(this.getLocalValue());
     }
 
     @Override
     public void fromJson(JsonElement json) {
         if (json instanceof JsonPrimitive primitive && primitive.isNumber()) {
-            this.setValue(primitive.getAsInt());
+            this.setInt(primitive.getAsInt());
         } else invalidConfig(json);
     }
 
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeVarInt(this.getLocalValue());
+    }
+
+    @Override
+    public Integer readValue(PacketByteBuf buf) {
+        return buf.readVarInt();
+    }
+
+    @Override
+    public String getSchema() {
+        return "%s[%s, %s]".formatted(super.getSchema(), this.min, this.max);
+    }
+
     @Override
     @Environment(EnvType.CLIENT)
     public void addConfigEntries(ConfigCategory category, Identifier id, ConfigEntryBuilder builder) {
         if (this.isRanged()) {
             category.addEntry(
-                builder.startIntSlider(this.getTitle(id), this.getValue(), this.min, this.max)
+                builder.startIntSlider(this.getTitle(id), this.getLocalValue(), this.min, this.max)
                        .setMin(this.min)
                        .setMax(this.max)
                        .setDefaultValue(this.getDefaultValue())
@@ -67,7 +120,7 @@ public class IntOption extends Option<Integer> {
                        .build()
             );
         } else {
-            IntFieldBuilder field = builder.startIntField(this.getTitle(id), this.getValue())
+            IntFieldBuilder field = builder.startIntField(this.getTitle(id), this.getLocalValue())
                                            .setDefaultValue(this.getDefaultValue())
                                            .setSaveConsumer(this::setValue)
                                            .setTooltip(this.getTooltipArray(id));
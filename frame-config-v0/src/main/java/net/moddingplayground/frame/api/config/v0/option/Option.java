@@ -1,22 +1,30 @@
 package net.moddingplayground.frame.api.config.v0.option;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import me.shedaniel.clothconfig2.api.ConfigCategory;
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.resource.language.I18n;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public abstract class Option<T> {
     private final T defaultValue;
+    private final List<Consumer<T>> listeners = new CopyOnWriteArrayList<>();
     private T value;
+    private boolean remote;
+    private T localValue;
 
     public Option(T defaultValue) {
         this.defaultValue = defaultValue;
@@ -27,21 +35,146 @@ public abstract class Option<T> {
         return this.defaultValue;
     }
 
+    /**
+     * Gets the value in effect, which is the {@linkplain #setRemoteValue remote value} while there is one.
+     */
     public T getValue() {
         return this.value;
     }
 
+    /**
+     * Sets the local value of this option, which is the one that is saved.
+     * While a remote value is in effect, the local value is kept aside until it is {@linkplain #clearRemoteValue() cleared}.
+     */
     public void setValue(T value) {
-        this.value = value;
+        if (this.remote) this.localValue = value;
+        else this.applyValue(value);
+    }
+
+    /**
+     * Replaces the value in effect, calling {@link #onChanged()} if it changes.
+     * Options that store their value themselves override this together with {@link #getValue()} and {@link #setValue}.
+     */
+    protected void applyValue(T value) {
+        if (!Objects.equals(this.value, value)) {
+            this.value = value;
+            this.onChanged();
+        }
+    }
+
+    /**
+     * Gets the local value of this option, which is the one that is saved, even while a remote value is in effect.
+     */
+    public T getLocalValue() {
+        return this.remote ? this.localValue : this.getValue();
+    }
+
+    /**
+     * Puts a value received from a server in effect, keeping the local value aside without saving the received one.
+     */
+    public void setRemoteValue(T value) {
+        if (!this.remote) {
+            this.localValue = this.getValue();
+            this.remote = true;
+        }
+        this.applyValue(value);
+    }
+
+    /**
+     * Puts the local value back in effect.
+     */
+    public void clearRemoteValue() {
+        if (!this.remote) return;
+
+        T local = this.localValue;
+        this.remote = false;
+        this.localValue = null;
+        this.applyValue(local);
+    }
+
+    public boolean hasRemoteValue() {
+        return this.remote;
+    }
+
+    /**
+     * Adds a listener that is called with the new value whenever the value of this option changes.
+     */
+    public void addListener(Consumer<T> listener) {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<T> listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Notifies listeners of a changed value. Options call this whenever their value changes.
+     */
+    protected void onChanged() {
+        if (!this.listeners.isEmpty()) {
+            T value = this.getValue();
+            for (Consumer<T> listener : this.listeners) listener.accept(value);
+        }
     }
 
     public boolean is(T other) {
-        return this.value.equals(other);
+        return this.getValue().equals(other);
     }
 
     public abstract JsonElement toJson();
     public abstract void fromJson(JsonElement json);
 
+    /**
+     * Writes the local value of this option, for {@linkplain net.moddingplayground.frame.api.config.v0.Config#setSynced synchronization}
+     * and {@linkplain net.moddingplayground.frame.api.config.v0.Config#setBinaryCache caching}.
+     * Falls back to the JSON form, options should override this with a compact encoding together with {@link #readValue(PacketByteBuf)}.
+     */
+    public void write(PacketByteBuf buf) {
+        buf.writeString(this.toJson().toString());
+    }
+
+    /**
+     * Reads a value written by {@link #write(PacketByteBuf)}, without applying it.
+     */
+    public T readValue(PacketByteBuf buf) {
+        JsonElement json = JsonParser.parseString(buf.readString());
+
+        // fromJson can only set the local value, so it is decoded into the place the local value is kept while a remote value is in effect
+        boolean remote = this.remote;
+        T local = this.localValue;
+        this.remote = true;
+        this.localValue = this.defaultValue;
+        try {
+            this.fromJson(json);
+            return this.localValue;
+        } finally {
+            this.remote = remote;
+            this.localValue = local;
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #write(PacketByteBuf)} and sets it as the local value.
+     */
+    public void read(PacketByteBuf buf) {
+        this.setValue(this.readValue(buf));
+    }
+
+    /**
+     * Reads a value written by {@link #write(PacketByteBuf)} and sets it as the remote value.
+     */
+    public void readRemote(PacketByteBuf buf) {
+        this.setRemoteValue(this.readValue(buf));
+    }
+
+    /**
+     * Describes how values of this option are written, so that cached values are dropped once it changes.
+     * Options whose encoding depends on more than their type, such as their bounds, include that as well.
+     */
+    public String getSchema() {
+        return this.getClass().getName();
+    }
+
     protected void invalidConfig(JsonElement json) {
         System.err.printf("Loading default value for config %s: %s%n", this, json);
     }
@@ -73,6 +206,6 @@ public abstract class Option<T> {
 
     @Override
     public String toString() {
-        return "%s{value=%s}".formatted(this.getClass().getSimpleName(), this.value);
+        return "%s{value=%s}".formatted(this.getClass().getSimpleName(), this.getValue());
     }
 }
@@ -0,0 +1,92 @@
+package net.moddingplayground.frame.impl.config;
+
+import com.google.common.hash.HashCode;
+import io.netty.buffer.Unpooled;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.network.PacketByteBuf;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Binary copies of config files, to load configs without parsing their JSON.
+ *
+ * <p>A cache is only valid for the exact size and modification time of the file it was written for,
+ * and for the same layout of options. The JSON file stays the source of truth.</p>
+ */
+public final class ConfigCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+    private static final int MAGIC = 0x46434643;
+    private static final int VERSION = 2;
+
+    @Nullable private static volatile Path root;
+
+    private ConfigCache() {}
+
+    /**
+     * @param layout identifies the options of the config, and how they are written
+     * @return the body of a valid cache of the given file, or {@code null} if there is none
+     */
+    @Nullable
+    public static PacketByteBuf read(Path path, HashCode layout) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            PacketByteBuf buf = new PacketByteBuf(Unpooled.wrappedBuffer(Files.readAllBytes(getPath(path))));
+            if (buf.readInt() == MAGIC && buf.readVarInt() == VERSION && layout.equals(HashCode.fromBytes(buf.readByteArray()))
+                && buf.readLong() == attributes.size() && buf.readLong() == attributes.lastModifiedTime().toMillis()) return buf;
+        } catch (NoSuchFileException ignored) {
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read config cache of {}", path, e);
+        }
+        return null;
+    }
+
+    /**
+     * Writes a cache for the current contents of the given file.
+     */
+    public static void write(Path path, HashCode layout, Consumer<PacketByteBuf> body) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+            buf.writeInt(MAGIC);
+            buf.writeVarInt(VERSION);
+            buf.writeByteArray(layout.asBytes());
+            buf.writeLong(attributes.size());
+            buf.writeLong(attributes.lastModifiedTime().toMillis());
+            body.accept(buf);
+
+            Path cache = getPath(path);
+            Files.createDirectories(cache.getParent());
+            ConfigFiles.write(cache, null, Arrays.copyOf(buf.array(), buf.writerIndex()));
+        } catch (IOException e) {
+            LOGGER.warn("Could not write config cache of {}", path, e);
+        }
+    }
+
+    /**
+     * Moves caches out of the game directory, such as into a temporary one for tests.
+     *
+     * @param root the directory to keep caches in, or {@code null} for the default one
+     */
+    static void setRoot(@Nullable Path root) {
+        ConfigCache.root = root;
+    }
+
+    static Path getPath(Path path) {
+        Path absolute = path.toAbsolutePath().normalize();
+        Path configDir = FabricLoader.getInstance().getConfigDir().toAbsolutePath().normalize();
+        Path relative = absolute.startsWith(configDir) ? configDir.relativize(absolute) : absolute.getFileName();
+
+        Path root = ConfigCache.root;
+        if (root == null) root = FabricLoader.getInstance().getGameDir().resolve(".cache").resolve("frame-config");
+        return root.resolve(relative + ".bin");
+    }
+}
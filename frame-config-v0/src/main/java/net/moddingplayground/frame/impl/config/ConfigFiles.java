@@ -0,0 +1,64 @@
+package net.moddingplayground.frame.impl.config;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ConfigFiles {
+    public static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private ConfigFiles() {}
+
+    /**
+     * @return a hash of file contents, to tell whether they changed
+     */
+    public static HashCode hash(byte[] bytes) {
+        return HASH_FUNCTION.hashBytes(bytes);
+    }
+
+    /**
+     * Replaces the contents of a file without ever leaving it partially written.
+     * The contents are written and synced to a sibling temporary file first, which is then moved over the file.
+     * The previous contents are only copied to the backup, if any, once the new ones are safely on disk.
+     * The file keeps its permissions, and new files get the default ones, as when writing to them directly.
+     */
+    public static void write(Path path, @Nullable Path backup, byte[] bytes) throws IOException {
+        // not Files.createTempFile, which restricts the file to its owner
+        Path temp = path.resolveSibling("%s.%s.tmp".formatted(path.getFileName(), Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36)));
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(true);
+            }
+            copyPermissions(path, temp);
+
+            if (backup != null && Files.exists(path)) Files.copy(path, backup, StandardCopyOption.REPLACE_EXISTING);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void copyPermissions(Path from, Path to) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(from, PosixFileAttributeView.class);
+        if (view != null && Files.exists(from)) Files.setPosixFilePermissions(to, view.readAttributes().permissions());
+    }
+}
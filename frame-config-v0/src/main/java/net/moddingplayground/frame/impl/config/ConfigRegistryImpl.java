@@ -0,0 +1,88 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.moddingplayground.frame.api.config.v0.Config;
+import net.moddingplayground.frame.api.config.v0.ConfigRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ConfigRegistryImpl implements ConfigRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+    private static final int MAX_THREADS = 4;
+
+    private final Map<Config, CompletableFuture<Void>> loads = new ConcurrentHashMap<>();
+    private final Map<Config, Long> loadTimes = new ConcurrentHashMap<>();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private final ThreadPoolExecutor executor;
+
+    public ConfigRegistryImpl() {
+        AtomicInteger count = new AtomicInteger();
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        this.executor = new ThreadPoolExecutor(threads, threads, 10L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Frame Config Loader #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // threads are only needed while starting up
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public <T extends Config> T register(T config) {
+        this.started.compareAndSet(0L, System.nanoTime());
+        this.loads.computeIfAbsent(config, c -> CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            // held while loading, so that joins from within the load can tell not to wait for it
+            synchronized (c) {
+                c.load();
+            }
+            long time = System.nanoTime() - start;
+            this.loadTimes.put(c, time);
+            LOGGER.debug("Loaded config {} (took {}ms)", c.getFile().getName(), TimeUnit.NANOSECONDS.toMillis(time));
+        }, this.executor).whenComplete((result, e) -> {
+            if (e != null) LOGGER.error("Could not load config {}", c.getFile(), e instanceof CompletionException ? e.getCause() : e);
+        }));
+        return config;
+    }
+
+    @Override
+    public <T extends Config> T join(T config) {
+        CompletableFuture<Void> load = this.loads.get(config);
+        // the load holds the lock of the config, so waiting while holding it would never end
+        if (load != null && !load.isDone() && !Thread.holdsLock(config)) await(load);
+        return config;
+    }
+
+    @Override
+    public void join() {
+        this.loads.values().forEach(ConfigRegistryImpl::await);
+        if (!this.loads.isEmpty() && this.reported.compareAndSet(false, true)) this.logSummary();
+    }
+
+    private void logSummary() {
+        long total = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.started.get());
+        this.loadTimes.entrySet().stream().max(Map.Entry.comparingByValue()).ifPresentOrElse(
+            slowest -> LOGGER.info("Loaded {} configs in {}ms, the slowest being {} ({}ms)", this.loadTimes.size(), total, slowest.getKey().getFile().getName(), TimeUnit.NANOSECONDS.toMillis(slowest.getValue())),
+            () -> LOGGER.info("Loaded no configs in {}ms", total)
+        );
+    }
+
+    private static void await(CompletableFuture<Void> load) {
+        try {
+            load.join();
+        } catch (CompletionException ignored) {
+            // reported once the load failed
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.moddingplayground.frame.api.config.v0.Config;
+import net.moddingplayground.frame.api.config.v0.option.Option;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends synced configs to players: a snapshot of every option on join, then the options that changed, once per tick.
+ *
+ * <p>Snapshots list option ids together with their values, and the client remembers their order.
+ * Changes then only refer to options by their index in the snapshot.</p>
+ */
+public final class ConfigSync {
+    public static final Identifier SNAPSHOT_PACKET_ID = new Identifier("frame", "config_snapshot");
+    public static final Identifier CHANGES_PACKET_ID = new Identifier("frame", "config_changes");
+
+    private static final Map<Identifier, SyncedConfig> CONFIGS = new ConcurrentHashMap<>();
+    private static final BitSet NO_CHANGES = new BitSet(0);
+
+    private ConfigSync() {}
+
+    public static void register(Identifier id, Config config) {
+        Map<Identifier, Option<?>> map = config.getOptions();
+        Identifier[] ids = map.keySet().toArray(Identifier[]::new);
+        Option<?>[] options = new Option<?>[ids.length];
+        SyncedConfig synced = new SyncedConfig(id, config, ids, options, new BitSet(ids.length));
+
+        for (int i = 0; i < ids.length; i++) {
+            int index = i;
+            options[i] = map.get(ids[i]);
+            options[i].addListener(value -> synced.markChanged(index));
+        }
+
+        if (CONFIGS.putIfAbsent(id, synced) != null) throw new IllegalArgumentException("Duplicate synced config %s".formatted(id));
+    }
+
+    @Nullable
+    public static Config get(Identifier id) {
+        SyncedConfig synced = CONFIGS.get(id);
+        return synced == null ? null : synced.config();
+    }
+
+    public static void sendSnapshots(MinecraftServer server, ServerPlayerEntity player) {
+        // the host shares its configs with the server
+        if (server.isHost(player.getGameProfile()) || !ServerPlayNetworking.canSend(player, SNAPSHOT_PACKET_ID)) return;
+
+        for (SyncedConfig synced : CONFIGS.values()) {
+            PacketByteBuf buf = PacketByteBufs.create();
+            synced.writeSnapshot(buf);
+            ServerPlayNetworking.send(player, SNAPSHOT_PACKET_ID, buf);
+        }
+    }
+
+    public static void sendChanges(MinecraftServer server) {
+        for (SyncedConfig synced : CONFIGS.values()) {
+            BitSet changed = synced.takeChanged();
+            if (changed.isEmpty()) continue;
+
+            PacketByteBuf buf = PacketByteBufs.create();
+            synced.writeChanges(changed, buf);
+
+            Packet<?> packet = ServerPlayNetworking.createS2CPacket(CHANGES_PACKET_ID, buf);
+            for (ServerPlayerEntity player : PlayerLookup.all(server)) {
+                if (!server.isHost(player.getGameProfile()) && ServerPlayNetworking.canSend(player, CHANGES_PACKET_ID)) player.networkHandler.sendPacket(packet);
+            }
+        }
+    }
+
+    /**
+     * Writes the contents of a snapshot packet for the given synced config.
+     */
+    static void writeSnapshot(Identifier id, PacketByteBuf buf) {
+        CONFIGS.get(id).writeSnapshot(buf);
+    }
+
+    /**
+     * Writes the contents of a changes packet for the given synced config, taking its pending changes.
+     *
+     * @return whether there were any changes to write
+     */
+    static boolean writeChanges(Identifier id, PacketByteBuf buf) {
+        SyncedConfig synced = CONFIGS.get(id);
+        BitSet changed = synced.takeChanged();
+        if (changed.isEmpty()) return false;
+        synced.writeChanges(changed, buf);
+        return true;
+    }
+
+    /**
+     * Forgets changes made while no server was running.
+     */
+    public static void clearChanges() {
+        CONFIGS.values().forEach(SyncedConfig::takeChanged);
+    }
+
+    private record SyncedConfig(Identifier id, Config config, Identifier[] ids, Option<?>[] options, BitSet changed) {
+        public void writeSnapshot(PacketByteBuf buf) {
+            buf.writeIdentifier(this.id);
+            buf.writeVarInt(this.options.length);
+            for (int i = 0; i < this.options.length; i++) {
+                buf.writeIdentifier(this.ids[i]);
+                this.options[i].write(buf);
+            }
+        }
+
+        public void writeChanges(BitSet changed, PacketByteBuf buf) {
+            buf.writeIdentifier(this.id);
+            buf.writeVarInt(changed.cardinality());
+            for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                buf.writeVarInt(i);
+                this.options[i].write(buf);
+            }
+        }
+
+        public void markChanged(int index) {
+            synchronized (this.changed) {
+                this.changed.set(index);
+            }
+        }
+
+        public BitSet takeChanged() {
+            synchronized (this.changed) {
+                // checked every tick, so avoid copying when nothing changed
+                if (this.changed.isEmpty()) return NO_CHANGES;
+
+                BitSet changed = (BitSet) this.changed.clone();
+                this.changed.clear();
+                return changed;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.moddingplayground.frame.api.config.v0.Config;
+import net.moddingplayground.frame.api.config.v0.ConfigReloadedCallback;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads configs that opted into hot reloading when their files change on disk.
+ *
+ * <p>A single daemon thread watches the directories of those configs. Changes to a file are
+ * debounced until it has been quiet for a moment, and the config is then reloaded on the server thread,
+ * or the client thread if there is no server. Configs whose file still matches what they last read or
+ * wrote are left alone, so their own saves never trigger a reload. Changes before either thread is available
+ * are queued until it is.</p>
+ */
+public final class ConfigWatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+    private static final long DEBOUNCE_MS = 500;
+
+    private static final Map<Path, Config> CONFIGS = new ConcurrentHashMap<>();
+    private static final Map<Path, WatchKey> DIRECTORIES = new HashMap<>();
+    private static final Set<Config> QUEUED = new LinkedHashSet<>();
+
+    private static volatile Executor serverExecutor;
+    private static volatile Executor clientExecutor;
+    private static WatchService service;
+
+    private ConfigWatcher() {}
+
+    public static synchronized void watch(Config config) {
+        Path path = config.getFile().toPath().toAbsolutePath().normalize();
+        CONFIGS.put(path, config);
+
+        try {
+            if (service == null) start();
+            Path directory = path.getParent();
+            if (!DIRECTORIES.containsKey(directory)) DIRECTORIES.put(directory, directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+        } catch (IOException e) {
+            LOGGER.error("Could not watch config {} for changes", path, e);
+        }
+    }
+
+    public static synchronized void unwatch(Config config) {
+        Path path = config.getFile().toPath().toAbsolutePath().normalize();
+        if (!CONFIGS.remove(path, config)) return;
+
+        // stop watching the directory once no config in it is left
+        Path directory = path.getParent();
+        if (CONFIGS.keySet().stream().noneMatch(other -> directory.equals(other.getParent()))) {
+            WatchKey key = DIRECTORIES.remove(directory);
+            if (key != null) key.cancel();
+        }
+    }
+
+    public static void setServerExecutor(@Nullable Executor executor) {
+        synchronized (QUEUED) {
+            serverExecutor = executor;
+        }
+        runQueued();
+    }
+
+    public static void setClientExecutor(@Nullable Executor executor) {
+        synchronized (QUEUED) {
+            clientExecutor = executor;
+        }
+        runQueued();
+    }
+
+    @Nullable
+    private static Executor getExecutor() {
+        return serverExecutor != null ? serverExecutor : clientExecutor;
+    }
+
+    private static void start() throws IOException {
+        service = FileSystems.getDefault().newWatchService();
+        DIRECTORIES.clear();
+
+        Thread thread = new Thread(() -> run(service), "Frame Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void run(WatchService service) {
+        Map<Config, Long> pending = new HashMap<>();
+        try {
+            while (true) {
+                WatchKey key = pending.isEmpty() ? service.take() : service.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+                long now = System.currentTimeMillis();
+
+                if (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path name) {
+                            Config config = CONFIGS.get(directory.resolve(name));
+                            if (config != null) pending.put(config, now + DEBOUNCE_MS);
+                        }
+                    }
+                    key.reset();
+                }
+
+                for (Iterator<Map.Entry<Config, Long>> iterator = pending.entrySet().iterator(); iterator.hasNext(); ) {
+                    Map.Entry<Config, Long> entry = iterator.next();
+                    if (entry.getValue() <= now) {
+                        iterator.remove();
+                        reload(entry.getKey());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private static void reload(Config config) {
+        Executor executor;
+        synchronized (QUEUED) {
+            executor = getExecutor();
+            // wait for a thread to reload on
+            if (executor == null) {
+                QUEUED.add(config);
+                return;
+            }
+        }
+        executor.execute(() -> reloadNow(config));
+    }
+
+    private static void runQueued() {
+        Executor executor;
+        List<Config> configs;
+        synchronized (QUEUED) {
+            executor = getExecutor();
+            if (executor == null || QUEUED.isEmpty()) return;
+            configs = List.copyOf(QUEUED);
+            QUEUED.clear();
+        }
+        executor.execute(() -> configs.forEach(ConfigWatcher::reloadNow));
+    }
+
+    private static void reloadNow(Config config) {
+        try {
+            if (config.reloadIfChanged()) {
+                LOGGER.info("Reloaded config {}", config.getFile());
+                ConfigReloadedCallback.EVENT.invoker().onReloaded(config);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not reload config {}", config.getFile(), e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.moddingplayground.frame.api.config.v0.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes configs on a single background thread.
+ * Saves of a config that are requested while a write of it is still queued are coalesced into that write.
+ */
+public final class ConfigWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private static final Map<Config, CompletableFuture<Void>> PENDING = new ConcurrentHashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Frame Config Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConfigWriter::flush, "Frame Config Flush"));
+    }
+
+    private ConfigWriter() {}
+
+    /**
+     * Queues a write of the given config, or joins the write that is already queued for it.
+     *
+     * @return a future completed once the config has been written
+     */
+    public static CompletableFuture<Void> submit(Config config, Callable<?> write) {
+        return PENDING.computeIfAbsent(config, c -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            EXECUTOR.execute(() -> {
+                // anything requested from here on needs another write
+                PENDING.remove(c);
+                try {
+                    write.call();
+                    future.complete(null);
+                } catch (Throwable t) {
+                    LOGGER.error("Could not save config {}", c.getFile(), t);
+                    future.completeExceptionally(t);
+                }
+            });
+            return future;
+        });
+    }
+
+    /**
+     * Blocks until every write queued so far has finished.
+     */
+    public static void flush() {
+        try {
+            CompletableFuture.runAsync(() -> {}, EXECUTOR).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LOGGER.error("Could not flush pending config saves", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.S2CPlayChannelEvents;
+import net.moddingplayground.frame.api.config.v0.ConfigRegistry;
+
+public final class FrameConfigImpl implements ModInitializer {
+    @Override
+    public void onInitialize() {
+        // finish loading registered configs, then reload changed configs on the server thread
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> {
+            ConfigRegistry.INSTANCE.join();
+            ConfigWatcher.setServerExecutor(server);
+            ConfigSync.clearChanges();
+        });
+
+        // send synced configs once the client can receive them, and their changes once per tick
+        S2CPlayChannelEvents.REGISTER.register((handler, sender, server, channels) -> {
+            if (channels.contains(ConfigSync.SNAPSHOT_PACKET_ID)) server.execute(() -> ConfigSync.sendSnapshots(server, handler.player));
+        });
+        ServerTickEvents.END_SERVER_TICK.register(ConfigSync::sendChanges);
+
+        // write pending saves before the server is gone
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            ConfigWatcher.setServerExecutor(null);
+            ConfigWriter.flush();
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package net.moddingplayground.frame.impl.config.client;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.Identifier;
+import net.moddingplayground.frame.api.config.v0.Config;
+import net.moddingplayground.frame.api.config.v0.option.Option;
+import net.moddingplayground.frame.impl.config.ConfigSync;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Applies synced configs received from the server as {@linkplain Option#setRemoteValue remote values},
+ * which are never saved, and puts the local values back in effect once disconnected.
+ * Only accessed from the client thread.
+ */
+@Environment(EnvType.CLIENT)
+public final class ConfigSyncClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+
+    private static final Map<Identifier, Option<?>[]> REMOTE_OPTIONS = new HashMap<>();
+
+    private ConfigSyncClient() {}
+
+    public static void onSnapshot(PacketByteBuf buf) {
+        Identifier id = buf.readIdentifier();
+        Config config = ConfigSync.get(id);
+        if (config == null) {
+            LOGGER.warn("Received unknown synced config {}", id);
+            return;
+        }
+
+        Map<Identifier, Option<?>> options = config.getOptions();
+        int size = buf.readVarInt();
+        if (size != options.size()) {
+            LOGGER.warn("Received synced config {} with {} options instead of {}, ignoring it", id, size, options.size());
+            return;
+        }
+
+        Option<?>[] remote = new Option<?>[size];
+        REMOTE_OPTIONS.put(id, remote);
+
+        config.update(() -> {
+            for (int i = 0; i < remote.length; i++) {
+                Identifier optionId = buf.readIdentifier();
+                Option<?> option = options.get(optionId);
+                if (option == null) {
+                    // the value cannot be skipped without knowing the option, nor can anything after it
+                    LOGGER.warn("Received unknown option {} of synced config {}, ignoring the rest", optionId, id);
+                    return;
+                }
+
+                option.readRemote(buf);
+                remote[i] = option;
+            }
+        });
+    }
+
+    public static void onChanges(PacketByteBuf buf) {
+        Identifier id = buf.readIdentifier();
+        Option<?>[] remote = REMOTE_OPTIONS.get(id);
+        Config config = ConfigSync.get(id);
+        if (remote == null || config == null) return;
+
+        int count = buf.readVarInt();
+        config.update(() -> {
+            for (int i = 0; i < count; i++) {
+                int index = buf.readVarInt();
+                Option<?> option = index < remote.length ? remote[index] : null;
+                if (option == null) return;
+                option.readRemote(buf);
+            }
+        });
+    }
+
+    public static void restore() {
+        REMOTE_OPTIONS.forEach((id, remote) -> {
+            Config config = ConfigSync.get(id);
+            if (config != null) config.update(() -> config.getOptions().values().forEach(Option::clearRemoteValue));
+        });
+        REMOTE_OPTIONS.clear();
+    }
+}
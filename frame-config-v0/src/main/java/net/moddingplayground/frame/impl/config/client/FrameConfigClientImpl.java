@@ -0,0 +1,43 @@
+package net.moddingplayground.frame.impl.config.client;
+
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.network.PacketByteBuf;
+import net.moddingplayground.frame.api.config.v0.ConfigRegistry;
+import net.moddingplayground.frame.impl.config.ConfigSync;
+import net.moddingplayground.frame.impl.config.ConfigWatcher;
+import net.moddingplayground.frame.impl.config.ConfigWriter;
+
+@Environment(EnvType.CLIENT)
+public final class FrameConfigClientImpl implements ClientModInitializer {
+    @Override
+    public void onInitializeClient() {
+        // every mod has been initialized, finish loading their configs
+        ConfigRegistry.INSTANCE.join();
+
+        // reload changed configs on the client thread while there is no server
+        ClientLifecycleEvents.CLIENT_STARTED.register(ConfigWatcher::setClientExecutor);
+
+        // apply synced configs from the server, restore the local values on leave
+        ClientPlayNetworking.registerGlobalReceiver(ConfigSync.SNAPSHOT_PACKET_ID, (client, handler, buf, sender) -> {
+            PacketByteBuf copy = PacketByteBufs.copy(buf);
+            client.execute(() -> ConfigSyncClient.onSnapshot(copy));
+        });
+        ClientPlayNetworking.registerGlobalReceiver(ConfigSync.CHANGES_PACKET_ID, (client, handler, buf, sender) -> {
+            PacketByteBuf copy = PacketByteBufs.copy(buf);
+            client.execute(() -> ConfigSyncClient.onChanges(copy));
+        });
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(ConfigSyncClient::restore));
+
+        // write pending saves before the client is gone
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> {
+            ConfigWatcher.setClientExecutor(null);
+            ConfigWriter.flush();
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package net.moddingplayground.frame.impl.config.server;
+
+import net.fabricmc.api.DedicatedServerModInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.moddingplayground.frame.api.config.v0.ConfigRegistry;
+
+@Environment(EnvType.SERVER)
+public final class FrameConfigServerImpl implements DedicatedServerModInitializer {
+    @Override
+    public void onInitializeServer() {
+        // every mod has been initialized, finish loading their configs
+        ConfigRegistry.INSTANCE.join();
+    }
+}
@@ -0,0 +1,120 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.minecraft.util.Identifier;
+import net.moddingplayground.frame.api.config.v0.Config;
+import net.moddingplayground.frame.api.config.v0.option.EnumOption;
+import net.moddingplayground.frame.api.config.v0.option.IntOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigCacheTest {
+    @TempDir
+    Path dir;
+
+    private File file;
+
+    @BeforeEach
+    void setUp() {
+        ConfigCache.setRoot(this.dir.resolve("cache"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConfigCache.setRoot(null);
+    }
+
+    @Test
+    void loadsFromCacheWhileFileIsUnchanged() throws IOException {
+        this.save("round_trip");
+        assertTrue(ConfigCache.getPath(this.file.toPath()).startsWith(this.dir));
+        assertTrue(Files.exists(ConfigCache.getPath(this.file.toPath())));
+
+        TestConfig config = new TestConfig(this.file, 10).load();
+        assertEquals(5, config.count.getInt());
+        assertEquals(Mode.B, config.mode.getValue());
+    }
+
+    @Test
+    void fallsBackOnTruncatedCache() throws IOException {
+        this.save("truncated");
+        Path cache = ConfigCache.getPath(this.file.toPath());
+        byte[] bytes = Files.readAllBytes(cache);
+        Files.write(cache, Arrays.copyOf(bytes, bytes.length - 1));
+
+        // the count can still be read from the cache, but must not be applied without the mode
+        TestConfig config = new TestConfig(this.file, 10);
+        List<Integer> counts = new ArrayList<>();
+        config.count.addListener(counts::add);
+        config.load();
+
+        assertEquals(6, config.count.getInt());
+        assertEquals(Mode.B, config.mode.getValue());
+        assertEquals(List.of(6), counts);
+    }
+
+    @Test
+    void fallsBackOnCorruptCache() throws IOException {
+        this.save("corrupt");
+        Files.write(ConfigCache.getPath(this.file.toPath()), new byte[]{ 1, 2, 3 });
+
+        TestConfig config = new TestConfig(this.file, 10).load();
+        assertEquals(6, config.count.getInt());
+    }
+
+    @Test
+    void dropsCacheWhenLayoutChanges() throws IOException {
+        this.save("layout");
+
+        TestConfig config = new TestConfig(this.file, 20).load();
+        assertEquals(6, config.count.getInt());
+    }
+
+    /**
+     * Saves a config with a count of 5, then changes it to 6 in the JSON file
+     * without changing the size or modification time, so that only a valid cache still reads 5.
+     */
+    private void save(String name) throws IOException {
+        this.file = this.dir.resolve("%s.json".formatted(name)).toFile();
+        TestConfig config = new TestConfig(this.file, 10);
+        config.count.setInt(5);
+        config.mode.setValue(Mode.B);
+        config.save();
+
+        Path path = this.file.toPath();
+        FileTime modified = Files.getLastModifiedTime(path);
+        String json = Files.readString(path, StandardCharsets.UTF_8);
+        assertTrue(json.contains(": 5"));
+        Files.writeString(path, json.replace(": 5", ": 6"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(path, modified);
+    }
+
+    enum Mode {
+        A, B
+    }
+
+    private static final class TestConfig extends Config {
+        public final IntOption count;
+        public final EnumOption<Mode> mode;
+
+        private TestConfig(File file, int max) {
+            super(file);
+            this.count = this.add(new Identifier("frame-test", "count"), IntOption.of(3, 0, max));
+            this.mode = this.add(new Identifier("frame-test", "mode"), EnumOption.of(Mode.class, Mode.A));
+            this.setBinaryCache(true);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package net.moddingplayground.frame.impl.config;
+
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.Identifier;
+import net.moddingplayground.frame.api.config.v0.Config;
+import net.moddingplayground.frame.api.config.v0.option.BooleanOption;
+import net.moddingplayground.frame.api.config.v0.option.IntOption;
+import net.moddingplayground.frame.impl.config.client.ConfigSyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigSyncTest {
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() {
+        ConfigSyncClient.restore();
+    }
+
+    @Test
+    void appliesSnapshotsAsRemoteValues() {
+        TestConfig config = this.createConfig("snapshot");
+        config.count.setInt(5);
+        config.enabled.setBoolean(false);
+
+        PacketByteBuf snapshot = PacketByteBufs.create();
+        ConfigSync.writeSnapshot(config.getSyncId(), snapshot);
+        config.count.setInt(7);
+        config.enabled.setBoolean(true);
+
+        ConfigSyncClient.onSnapshot(snapshot);
+        assertEquals(5, config.count.getInt());
+        assertFalse(config.enabled.isTrue());
+        assertTrue(config.count.hasRemoteValue());
+        assertEquals(5, config.getSnapshot().getInt(config.count));
+
+        // the local values are still the ones that are saved
+        assertEquals(7, config.count.toJson().getAsInt());
+        assertTrue(config.enabled.toJson().getAsBoolean());
+
+        ConfigSyncClient.restore();
+        assertEquals(7, config.count.getInt());
+        assertTrue(config.enabled.isTrue());
+        assertFalse(config.count.hasRemoteValue());
+    }
+
+    @Test
+    void appliesChangesToRemoteValues() {
+        TestConfig config = this.createConfig("changes");
+        config.count.setInt(5);
+
+        PacketByteBuf snapshot = PacketByteBufs.create();
+        ConfigSync.writeSnapshot(config.getSyncId(), snapshot);
+        ConfigSync.clearChanges();
+
+        config.count.setInt(8);
+        PacketByteBuf changes = PacketByteBufs.create();
+        assertTrue(ConfigSync.writeChanges(config.getSyncId(), changes));
+        assertFalse(ConfigSync.writeChanges(config.getSyncId(), PacketByteBufs.create()));
+        config.count.setInt(1);
+
+        ConfigSyncClient.onSnapshot(snapshot);
+        assertEquals(5, config.count.getInt());
+
+        ConfigSyncClient.onChanges(changes);
+        assertEquals(8, config.count.getInt());
+        assertTrue(config.enabled.isTrue());
+
+        ConfigSyncClient.restore();
+        assertEquals(1, config.count.getInt());
+    }
+
+    @Test
+    void ignoresChangesWithoutSnapshot() {
+        TestConfig config = this.createConfig("no_snapshot");
+        ConfigSync.clearChanges();
+
+        config.count.setInt(8);
+        PacketByteBuf changes = PacketByteBufs.create();
+        assertTrue(ConfigSync.writeChanges(config.getSyncId(), changes));
+        config.count.setInt(1);
+
+        ConfigSyncClient.onChanges(changes);
+        assertEquals(1, config.count.getInt());
+        assertFalse(config.count.hasRemoteValue());
+    }
+
+    @Test
+    void ignoresSnapshotsWithOtherOptionCounts() {
+        TestConfig config = this.createConfig("option_count");
+
+        PacketByteBuf snapshot = PacketByteBufs.create();
+        snapshot.writeIdentifier(config.getSyncId());
+        snapshot.writeVarInt(Integer.MAX_VALUE);
+
+        ConfigSyncClient.onSnapshot(snapshot);
+        assertFalse(config.count.hasRemoteValue());
+        assertFalse(config.enabled.hasRemoteValue());
+    }
+
+    private TestConfig createConfig(String name) {
+        TestConfig config = new TestConfig(this.dir.resolve("%s.json".formatted(name)).toFile());
+        config.setSynced(new Identifier("frame-test", name));
+        return config;
+    }
+
+    private static final class TestConfig extends Config {
+        public final IntOption count = this.add(new Identifier("frame-test", "count"), IntOption.of(3, 0, 10));
+        public final BooleanOption enabled = this.add(new Identifier("frame-test", "enabled"), BooleanOption.of(true));
+
+        private TestConfig(File file) {
+            super(file);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package net.moddingplayground.frame.benchmark.contentregistries;
+
+import net.minecraft.text.Text;
+import net.minecraft.util.math.random.Random;
+import net.moddingplayground.frame.impl.contentregistries.client.SplashesRegistryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures the splash selection done by {@code SplashTextResourceSupplierMixin} and {@code TitleScreenMixin}.
+ */
+@State(Scope.Thread)
+public class SplashesRegistryBenchmark {
+    /**
+     * Roughly the number of splashes in the vanilla splashes.txt.
+     */
+    private static final int VANILLA = 400;
+
+    @Param({ "10", "1000" })
+    private int size;
+
+    private SplashesRegistryImpl splashes;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticBlocks.bootstrap();
+        this.splashes = new SplashesRegistryImpl();
+        for (int i = 0; i < this.size; i++) this.splashes.register("Splash " + i);
+        this.random = Random.create(0L);
+    }
+
+    @Benchmark
+    public Text select() {
+        SplashesRegistryImpl.Snapshot snapshot = this.splashes.snapshot();
+        Supplier<Text> text = snapshot.get(snapshot.sample(this.random, VANILLA), VANILLA);
+        return text != null ? text.get() : null;
+    }
+}
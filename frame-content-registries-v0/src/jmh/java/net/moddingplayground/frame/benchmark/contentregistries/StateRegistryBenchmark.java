@@ -0,0 +1,76 @@
+package net.moddingplayground.frame.benchmark.contentregistries;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
+import net.moddingplayground.frame.impl.contentregistries.StateRegistryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures lookups into a frozen {@link StateRegistry}.
+ * Queries are drawn from twice as many states as are registered, so roughly half of them hit.
+ */
+@State(Scope.Thread)
+public class StateRegistryBenchmark {
+    private static final int QUERIES = 1 << 12;
+
+    @Param({ "10", "1000", "50000" })
+    private int size;
+
+    private StateRegistry registry;
+    private StateRegistry supports;
+    private Set<Block> supportedBlocks;
+    private BlockState[] states;
+    private Block[] blocks;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<BlockState> universe = SyntheticBlocks.states(this.size * 2);
+        List<BlockState> registered = universe.subList(0, this.size);
+
+        this.registry = new StateRegistryImpl().batch().add(registered.toArray(BlockState[]::new)).apply().freeze();
+        // a registry of its own rather than one of BLOCK_ENTITY_SUPPORTS, which is global
+        this.supports = new StateRegistryImpl().add(registered.toArray(BlockState[]::new)).freeze();
+        this.supportedBlocks = Set.of(Blocks.OAK_SIGN, Blocks.OAK_WALL_SIGN);
+
+        Random random = new Random(0L);
+        this.states = new BlockState[QUERIES];
+        this.blocks = new Block[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            BlockState state = universe.get(random.nextInt(universe.size()));
+            this.states[i] = state;
+            this.blocks[i] = state.getBlock();
+        }
+    }
+
+    @Benchmark
+    public boolean containsState() {
+        return this.registry.contains(this.states[this.cursor++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public boolean containsBlock() {
+        return this.registry.contains(this.blocks[this.cursor++ & (QUERIES - 1)]);
+    }
+
+    /**
+     * The lookup done by {@code BlockEntityTypeMixin}, which keeps the registry of its type in a field,
+     * after the blocks of the type itself.
+     */
+    @Benchmark
+    public boolean blockEntitySupports() {
+        BlockState state = this.states[this.cursor++ & (QUERIES - 1)];
+        return this.supportedBlocks.contains(state.getBlock()) || this.supports.contains(state);
+    }
+}
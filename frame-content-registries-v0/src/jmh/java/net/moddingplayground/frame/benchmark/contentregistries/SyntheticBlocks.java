@@ -0,0 +1,83 @@
+package net.moddingplayground.frame.benchmark.contentregistries;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Material;
+import net.minecraft.state.StateManager;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.SimpleRegistry;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Bootstraps Minecraft and registers synthetic blocks, so that benchmarks can use more states than vanilla provides.
+ */
+final class SyntheticBlocks {
+    private static final List<BlockState> STATES = new ArrayList<>();
+
+    private static boolean bootstrapped;
+
+    private SyntheticBlocks() {}
+
+    public static synchronized void bootstrap() {
+        if (!bootstrapped) {
+            SharedConstants.createGameVersion();
+            Bootstrap.initialize();
+            unfreeze(Registry.BLOCK);
+            bootstrapped = true;
+        }
+    }
+
+    /**
+     * @return the given number of registered synthetic states
+     */
+    public static synchronized List<BlockState> states(int count) {
+        if (STATES.size() < count) {
+            bootstrap();
+            while (STATES.size() < count) {
+                Block block = Registry.register(Registry.BLOCK, new Identifier("frame-benchmark", "synthetic_" + Registry.BLOCK.size()), new SyntheticBlock());
+                for (BlockState state : block.getStateManager().getStates()) {
+                    Block.STATE_IDS.add(state);
+                    STATES.add(state);
+                }
+            }
+        }
+        return STATES.subList(0, count);
+    }
+
+    /**
+     * Reopens a registry that was frozen by {@link Bootstrap#initialize()}, as Fabric API would in game.
+     */
+    private static void unfreeze(SimpleRegistry<?> registry) {
+        try {
+            Field frozen = SimpleRegistry.class.getDeclaredField("frozen");
+            frozen.setAccessible(true);
+            frozen.setBoolean(registry, false);
+
+            Field intrusive = SimpleRegistry.class.getDeclaredField("intrusiveValueToEntry");
+            intrusive.setAccessible(true);
+            if (intrusive.get(registry) == null) intrusive.set(registry, new IdentityHashMap<>());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not unfreeze %s".formatted(registry), e);
+        }
+    }
+
+    private static final class SyntheticBlock extends Block {
+        private SyntheticBlock() {
+            super(AbstractBlock.Settings.of(Material.STONE));
+        }
+
+        @Override
+        protected void appendProperties(StateManager.Builder<Block, BlockState> builder) {
+            builder.add(Properties.LEVEL_15);
+        }
+    }
+}
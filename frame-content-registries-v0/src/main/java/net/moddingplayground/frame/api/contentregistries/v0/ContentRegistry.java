@@ -0,0 +1,58 @@
+package net.moddingplayground.frame.api.contentregistries.v0;
+
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.registry.Registry;
+import net.moddingplayground.frame.impl.contentregistries.ContentRegistryImpl;
+
+import java.util.function.Predicate;
+
+/**
+ * A set of entries of a registry, such as {@link net.minecraft.item.Item items},
+ * {@link net.minecraft.entity.EntityType entity types} or {@link net.minecraft.fluid.Fluid fluids}.
+ * Shares the freezing and tag reloading behavior of {@link StateRegistry}.
+ */
+public interface ContentRegistry<T> extends Iterable<T> {
+    static <T> ContentRegistry<T> create(Registry<T> registry) {
+        return create(registry, value -> true);
+    }
+
+    /**
+     * @param predicate entries that are expected to be added, others are reported when the registry is frozen
+     */
+    static <T> ContentRegistry<T> create(Registry<T> registry, Predicate<T> predicate) {
+        return new ContentRegistryImpl<>(registry, predicate);
+    }
+
+    /**
+     * Creates a registry that contains every entry in the given tag.
+     */
+    static <T> ContentRegistry<T> of(Registry<T> registry, TagKey<T> tag) {
+        return create(registry).add(tag);
+    }
+
+    @SuppressWarnings("unchecked")
+    ContentRegistry<T> add(T... values);
+
+    /**
+     * Adds every entry in the given tag to this registry.
+     * The contents of the tag are resolved again whenever tags are reloaded or synchronized.
+     */
+    ContentRegistry<T> add(TagKey<T> tag);
+
+    boolean contains(T value);
+
+    /**
+     * Compiles this registry and prevents any further additions until it is {@linkplain #thaw() thawed}.
+     * All registries are frozen automatically once the game has started.
+     */
+    ContentRegistry<T> freeze();
+
+    /**
+     * Allows additions to a frozen registry again.
+     */
+    ContentRegistry<T> thaw();
+
+    boolean isFrozen();
+
+    Registry<T> getRegistry();
+}
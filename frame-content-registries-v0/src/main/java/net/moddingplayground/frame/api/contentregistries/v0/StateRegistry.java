@@ -5,10 +5,13 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.LadderBlock;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.state.property.IntProperty;
+import net.minecraft.tag.TagKey;
 import net.minecraft.util.Util;
 import net.moddingplayground.frame.impl.contentregistries.StateRegistryImpl;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface StateRegistry extends Iterable<BlockState> {
     StateRegistry BOOKSHELVES = new StateRegistryImpl(state -> !state.isOf(Blocks.BOOKSHELF));
@@ -18,9 +21,73 @@ public interface StateRegistry extends Iterable<BlockState> {
 
     Function<BlockEntityType<?>, StateRegistry> BLOCK_ENTITY_SUPPORTS = Util.memoize(type -> new StateRegistryImpl());
 
+    /**
+     * Creates a registry that contains every block in the given tag.
+     */
+    static StateRegistry of(TagKey<Block> tag) {
+        return new StateRegistryImpl().add(tag);
+    }
+
     StateRegistry add(BlockState... states);
     StateRegistry add(Block... blocks);
 
+    /**
+     * Adds every block in the given tag to this registry.
+     * The contents of the tag are resolved again whenever tags are reloaded or synchronized.
+     */
+    StateRegistry add(TagKey<Block> tag);
+
+    /**
+     * Starts a batch of additions that is applied to this registry at once.
+     * Prefer this over repeated calls to {@code add} when registering many entries.
+     */
+    Batch batch();
+
     boolean contains(BlockState state);
     boolean contains(Block block);
+
+    /**
+     * @return whether every state of the given block is contained in this registry
+     */
+    boolean containsAll(Block block);
+
+    /**
+     * Compiles this registry and prevents any further additions until it is {@linkplain #thaw() thawed}.
+     * All registries are frozen automatically once the game has started.
+     */
+    StateRegistry freeze();
+
+    /**
+     * Allows additions to a frozen registry again.
+     */
+    StateRegistry thaw();
+
+    boolean isFrozen();
+
+    /**
+     * A set of additions to a {@link StateRegistry}, de-duplicated and applied in one go.
+     * Predicate violations are collected when the registry is compiled and reported once it is frozen.
+     */
+    interface Batch {
+        Batch add(BlockState... states);
+        Batch add(Block... blocks);
+        Batch add(TagKey<Block> tag);
+
+        /**
+         * Adds every state of the given block that matches the filter.
+         */
+        Batch addMatching(Block block, Predicate<BlockState> filter);
+
+        /**
+         * Adds every state of the given block whose value of the given property is within the given range, inclusive.
+         */
+        Batch addRange(Block block, IntProperty property, int min, int max);
+
+        /**
+         * Adds everything in this batch to its registry.
+         *
+         * @return the registry
+         */
+        StateRegistry apply();
+    }
 }
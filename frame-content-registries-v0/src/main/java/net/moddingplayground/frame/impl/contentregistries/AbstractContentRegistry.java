@@ -0,0 +1,153 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import net.minecraft.util.registry.Registry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * The shared lifecycle of content registries.
+ * Contents are compiled into an immutable form of type {@code C} that lookups read without locking.
+ *
+ * <p>Additions are synchronized and invalidate the compiled form, which is rebuilt on the next lookup.
+ * Registries are recompiled when the raw ids or tags of their owning registry change, and once frozen,
+ * additions fail until the registry is thawed.</p>
+ *
+ * @param <T> the type of content
+ * @param <C> the compiled form
+ */
+public abstract class AbstractContentRegistry<T, C> implements Iterable<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+    // weak, so that registries nobody uses anymore are neither kept around nor walked on every reload
+    private static final Queue<WeakReference<AbstractContentRegistry<?, ?>>> INSTANCES = new ConcurrentLinkedQueue<>();
+    private static volatile boolean allFrozen;
+
+    private final Registry<?> owner;
+
+    private volatile C compiled;
+    private volatile boolean frozen;
+
+    /**
+     * @param owner the registry whose raw ids and tags the contents depend on
+     */
+    protected AbstractContentRegistry(Registry<?> owner) {
+        this.owner = owner;
+        this.frozen = allFrozen;
+        INSTANCES.add(new WeakReference<>(this));
+    }
+
+    /**
+     * Compiles the current contents. Always called while holding the lock of this registry.
+     */
+    protected abstract C build();
+
+    /**
+     * @return whether the contents depend on tags of the owning registry
+     */
+    protected abstract boolean hasTags();
+
+    protected abstract CompiledContentRegistry<T> getContents(C compiled);
+
+    protected final C compiled() {
+        C compiled = this.compiled;
+        return compiled != null ? compiled : this.compile();
+    }
+
+    private synchronized C compile() {
+        C compiled = this.compiled;
+        if (compiled == null) {
+            compiled = this.build();
+            this.compiled = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * Drops the compiled form after the contents changed. Must be called while holding the lock of this registry.
+     */
+    protected final void invalidate() {
+        this.compiled = null;
+    }
+
+    protected final void checkNotFrozen() {
+        if (this.frozen) throw new IllegalStateException("Cannot add to a frozen content registry, thaw it first");
+    }
+
+    protected final synchronized void freezeRegistry() {
+        if (!this.frozen) {
+            this.frozen = true;
+            List<T> violations = this.getContents(this.compiled()).violations();
+            if (!violations.isEmpty()) LOGGER.warn("Registered {} entries to a {} registry that did not match its predicate! Expect unintended behavior or crashing: {}", violations.size(), this.owner.getKey().getValue(), violations);
+        }
+    }
+
+    protected final synchronized void thawRegistry() {
+        this.frozen = false;
+    }
+
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    private synchronized void invalidate(boolean unindexedOnly) {
+        C compiled = this.compiled;
+        if (compiled != null && (!unindexedOnly || this.getContents(compiled).unindexed() > 0)) this.compiled = null;
+    }
+
+    private synchronized void recompileTags() {
+        // replace the compiled form in place so that lookups never wait on the rebuild
+        if (this.hasTags()) this.compiled = this.build();
+    }
+
+    /**
+     * Recompiles every registry owned by the given registry on its next lookup, after its raw ids have changed.
+     */
+    public static void invalidateAll(Registry<?> owner) {
+        forEachInstance(registry -> {
+            if (registry.owner == owner) registry.invalidate(false);
+        });
+    }
+
+    /**
+     * Recompiles registries owned by the given registry that contain values which had no raw id when they were compiled.
+     */
+    public static void invalidateUnindexed(Registry<?> owner) {
+        forEachInstance(registry -> {
+            if (registry.owner == owner) registry.invalidate(true);
+        });
+    }
+
+    /**
+     * Recompiles every registry with tags after the tags of the given registry have been repopulated.
+     */
+    public static void recompileTagged(Registry<?> owner) {
+        forEachInstance(registry -> {
+            if (registry.owner == owner) registry.recompileTags();
+        });
+    }
+
+    /**
+     * Freezes every registry, including ones created from now on.
+     */
+    public static void freezeAll() {
+        allFrozen = true;
+        forEachInstance(AbstractContentRegistry::freezeRegistry);
+    }
+
+    /**
+     * Runs the given action on every registry that is still in use, forgetting those that have been garbage collected.
+     */
+    private static void forEachInstance(Consumer<AbstractContentRegistry<?, ?>> action) {
+        for (Iterator<WeakReference<AbstractContentRegistry<?, ?>>> iterator = INSTANCES.iterator(); iterator.hasNext(); ) {
+            AbstractContentRegistry<?, ?> registry = iterator.next().get();
+            if (registry == null) iterator.remove();
+            else action.accept(registry);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.EnchantingTableBlock;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.BlockView;
+import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
+
+/**
+ * Caches which {@linkplain EnchantingTableBlock#POWER_PROVIDER_OFFSETS power provider offsets}
+ * of an enchanting table hold an accessible bookshelf, keyed by the position of the table.
+ *
+ * <p>Each entry is a bitmask over the 5x2x5 area around the table, and is dropped as soon as a block in that area
+ * changes, a chunk overlapping it is loaded or unloaded, or the bookshelf registry is recompiled.
+ * A cache belongs to a single world and is not thread-safe.</p>
+ */
+public final class BookshelfCache {
+    private static final long ABSENT = -1L;
+    private static final int RANGE = 2;
+    private static final long POWER_PROVIDERS = EnchantingTableBlock.POWER_PROVIDER_OFFSETS.stream()
+                                                                    .filter(BookshelfCache::isInRange)
+                                                                    .mapToLong(offset -> 1L << index(offset))
+                                                                    .reduce(0L, (a, b) -> a | b);
+
+    private final StateRegistryImpl registry;
+    private final Long2LongMap masks;
+    private final BlockPos.Mutable mutable;
+    private CompiledStateRegistry bookshelves;
+
+    public BookshelfCache() {
+        this((StateRegistryImpl) StateRegistry.BOOKSHELVES);
+    }
+
+    BookshelfCache(StateRegistryImpl registry) {
+        this.registry = registry;
+        this.masks = new Long2LongOpenHashMap();
+        this.masks.defaultReturnValue(ABSENT);
+        this.mutable = new BlockPos.Mutable();
+    }
+
+    /**
+     * @return whether lookups of the given offset can be answered by a cache, which is only the case for the vanilla power provider offsets
+     */
+    public static boolean isCached(BlockPos offset) {
+        return isInRange(offset) && (POWER_PROVIDERS & (1L << index(offset))) != 0;
+    }
+
+    /**
+     * @param offset one of the {@linkplain #isCached(BlockPos) cached} offsets
+     */
+    public boolean canAccessBookshelf(BlockView world, BlockPos pos, BlockPos offset) {
+        // the bookshelf registry itself may have changed, for example on a tag reload
+        CompiledStateRegistry bookshelves = this.registry.compiled();
+        if (bookshelves != this.bookshelves) {
+            this.bookshelves = bookshelves;
+            this.masks.clear();
+        }
+
+        long key = pos.asLong();
+        long mask = this.masks.get(key);
+        if (mask == ABSENT) {
+            mask = this.scan(world, pos);
+            this.masks.put(key, mask);
+        }
+        return (mask & (1L << index(offset))) != 0;
+    }
+
+    /**
+     * Drops the entries of every table whose area contains the given position.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        if (this.masks.isEmpty()) return;
+
+        int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        if (this.masks.size() < (RANGE * 2 + 1) * 2 * (RANGE * 2 + 1)) {
+            for (LongIterator iterator = this.masks.keySet().iterator(); iterator.hasNext(); ) {
+                long key = iterator.nextLong();
+                int dy = y - BlockPos.unpackLongY(key);
+                if (dy >= 0 && dy <= 1 && Math.abs(x - BlockPos.unpackLongX(key)) <= RANGE && Math.abs(z - BlockPos.unpackLongZ(key)) <= RANGE) iterator.remove();
+            }
+        } else {
+            for (int dy = 0; dy <= 1; dy++) {
+                for (int dx = -RANGE; dx <= RANGE; dx++) {
+                    for (int dz = -RANGE; dz <= RANGE; dz++) this.masks.remove(BlockPos.asLong(x - dx, y - dy, z - dz));
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the entries of every table whose area overlaps the given chunk, after it was loaded or unloaded.
+     */
+    public void onChunkChanged(ChunkPos pos) {
+        if (this.masks.isEmpty()) return;
+
+        int minX = pos.getStartX() - RANGE, maxX = pos.getEndX() + RANGE;
+        int minZ = pos.getStartZ() - RANGE, maxZ = pos.getEndZ() + RANGE;
+        for (LongIterator iterator = this.masks.keySet().iterator(); iterator.hasNext(); ) {
+            long key = iterator.nextLong();
+            int x = BlockPos.unpackLongX(key), z = BlockPos.unpackLongZ(key);
+            if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) iterator.remove();
+        }
+    }
+
+    private long scan(BlockView world, BlockPos pos) {
+        long mask = 0L;
+        for (BlockPos offset : EnchantingTableBlock.POWER_PROVIDER_OFFSETS) {
+            if (!isInRange(offset)) continue;
+            BlockState state = world.getBlockState(this.mutable.set(pos, offset.getX(), offset.getY(), offset.getZ()));
+            if (state.isOf(Blocks.BOOKSHELF) || this.bookshelves.contains(state)) {
+                this.mutable.set(pos, offset.getX() / 2, offset.getY(), offset.getZ() / 2);
+                if (world.getBlockState(this.mutable).isAir()) mask |= 1L << index(offset);
+            }
+        }
+        return mask;
+    }
+
+    private static boolean isInRange(BlockPos offset) {
+        int x = offset.getX(), y = offset.getY(), z = offset.getZ();
+        return y >= 0 && y <= 1 && x >= -RANGE && x <= RANGE && z >= -RANGE && z <= RANGE;
+    }
+
+    private static int index(BlockPos offset) {
+        int size = RANGE * 2 + 1;
+        return (offset.getY() * size + offset.getZ() + RANGE) * size + offset.getX() + RANGE;
+    }
+}
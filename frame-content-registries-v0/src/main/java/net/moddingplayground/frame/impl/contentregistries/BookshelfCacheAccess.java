@@ -0,0 +1,5 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+public interface BookshelfCacheAccess {
+    BookshelfCache getFrameBookshelfCache();
+}
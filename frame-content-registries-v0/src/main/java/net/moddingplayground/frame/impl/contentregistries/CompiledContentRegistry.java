@@ -0,0 +1,49 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.util.collection.IndexedIterable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, read-optimized set of values, stored as a dense bitset over their raw ids.
+ * Instances are never mutated after construction and can be read from any thread.
+ *
+ * @param ids the source of raw ids
+ * @param bits a dense bitset over the raw ids of every contained value
+ * @param values every contained value
+ * @param violations every contained value that did not match the predicate of the registry
+ * @param unindexed the number of contained values without a raw id
+ */
+public record CompiledContentRegistry<T>(IndexedIterable<T> ids, long[] bits, List<T> values, List<T> violations, int unindexed) {
+    public static <T> CompiledContentRegistry<T> compile(IndexedIterable<T> ids, Collection<T> values, Predicate<T> predicate) {
+        ImmutableList<T> list = ImmutableList.copyOf(values);
+        ImmutableList.Builder<T> violations = ImmutableList.builder();
+        long[] bits = new long[0];
+        int unindexed = 0;
+
+        for (T value : list) {
+            if (!predicate.test(value)) violations.add(value);
+
+            int id = ids.getRawId(value);
+            if (id >= 0) {
+                int word = id >> 6;
+                if (word >= bits.length) bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+                bits[word] |= 1L << id;
+            } else unindexed++;
+        }
+
+        return new CompiledContentRegistry<>(ids, bits, list, violations.build(), unindexed);
+    }
+
+    public boolean contains(T value) {
+        if (this.bits.length == 0) return false;
+        int id = this.ids.getRawId(value);
+        if (id < 0) return false;
+        int word = id >> 6;
+        return word < this.bits.length && (this.bits[word] & (1L << id)) != 0;
+    }
+}
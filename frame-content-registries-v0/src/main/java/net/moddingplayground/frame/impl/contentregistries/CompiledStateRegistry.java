@@ -0,0 +1,58 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, read-optimized form of a {@link StateRegistryImpl}.
+ * Instances are never mutated after construction and can be read from any thread.
+ *
+ * @param states every contained state, indexed by {@link Block#STATE_IDS}
+ * @param blocks a summary of how many states of each block are contained
+ */
+record CompiledStateRegistry(CompiledContentRegistry<BlockState> states, Reference2ByteMap<Block> blocks) {
+    public static final byte NONE = 0;
+    public static final byte SOME = 1;
+    public static final byte ALL = 2;
+
+    public static CompiledStateRegistry compile(Set<Block> blocks, Set<BlockState> states, Reference2IntMap<Block> counts, Predicate<BlockState> predicate) {
+        ImmutableList.Builder<BlockState> values = ImmutableList.builder();
+        Reference2ByteMap<Block> summary = new Reference2ByteOpenHashMap<>();
+        summary.defaultReturnValue(NONE);
+
+        for (Block block : blocks) {
+            values.addAll(block.getStateManager().getStates());
+            summary.put(block, ALL);
+        }
+
+        for (Reference2IntMap.Entry<Block> entry : counts.reference2IntEntrySet()) {
+            Block block = entry.getKey();
+            if (!blocks.contains(block)) summary.put(block, entry.getIntValue() == block.getStateManager().getStates().size() ? ALL : SOME);
+        }
+
+        for (BlockState state : states) {
+            if (!blocks.contains(state.getBlock())) values.add(state);
+        }
+
+        return new CompiledStateRegistry(CompiledContentRegistry.compile(Block.STATE_IDS, values.build(), predicate), summary);
+    }
+
+    public boolean contains(BlockState state) {
+        return this.states.contains(state);
+    }
+
+    public boolean contains(Block block) {
+        return this.blocks.getByte(block) != NONE;
+    }
+
+    public boolean containsAll(Block block) {
+        return this.blocks.getByte(block) == ALL;
+    }
+}
@@ -0,0 +1,96 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryEntry;
+import net.moddingplayground.frame.api.contentregistries.v0.ContentRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A stored set of registry entries, compiled into a bitset over their raw ids in the registry.
+ */
+public final class ContentRegistryImpl<T> extends AbstractContentRegistry<T, CompiledContentRegistry<T>> implements ContentRegistry<T> {
+    private final Registry<T> registry;
+    private final Predicate<T> predicate;
+    private final Set<T> values;
+    private final Set<TagKey<T>> tags;
+
+    public ContentRegistryImpl(Registry<T> registry, Predicate<T> predicate) {
+        super(registry);
+        this.registry = registry;
+        this.predicate = predicate;
+        this.values = new ReferenceLinkedOpenHashSet<>();
+        this.tags = new LinkedHashSet<>();
+    }
+
+    @SafeVarargs
+    @Override
+    public final synchronized ContentRegistry<T> add(T... values) {
+        this.checkNotFrozen();
+        if (Collections.addAll(this.values, values)) this.invalidate();
+        return this;
+    }
+
+    @Override
+    public synchronized ContentRegistry<T> add(TagKey<T> tag) {
+        this.checkNotFrozen();
+        if (this.tags.add(tag)) this.invalidate();
+        return this;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return this.compiled().contains(value);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return this.compiled().values().iterator();
+    }
+
+    @Override
+    public ContentRegistry<T> freeze() {
+        this.freezeRegistry();
+        return this;
+    }
+
+    @Override
+    public ContentRegistry<T> thaw() {
+        this.thawRegistry();
+        return this;
+    }
+
+    @Override
+    public Registry<T> getRegistry() {
+        return this.registry;
+    }
+
+    @Override
+    protected CompiledContentRegistry<T> build() {
+        Set<T> values = this.values;
+        if (!this.tags.isEmpty()) {
+            values = new ReferenceLinkedOpenHashSet<>(values);
+            for (TagKey<T> tag : this.tags) {
+                for (RegistryEntry<T> entry : this.registry.iterateEntries(tag)) values.add(entry.value());
+            }
+        }
+        return CompiledContentRegistry.compile(this.registry, values, this.predicate);
+    }
+
+    @Override
+    protected boolean hasTags() {
+        return !this.tags.isEmpty();
+    }
+
+    @Override
+    protected CompiledContentRegistry<T> getContents(CompiledContentRegistry<T> compiled) {
+        return compiled;
+    }
+}
@@ -0,0 +1,28 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.fabricmc.fabric.api.event.registry.RegistryIdRemapCallback;
+import net.minecraft.util.registry.Registry;
+
+public final class FrameContentRegistriesImpl implements ModInitializer {
+    @Override
+    public void onInitialize() {
+        // keep content registries in line with the raw ids of their registries
+        for (Registry<?> registry : Registry.REGISTRIES) this.trackRawIds(registry);
+
+        // drop cached bookshelves of tables next to loaded and unloaded chunks
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> ((BookshelfCacheAccess) world).getFrameBookshelfCache().onChunkChanged(chunk.getPos()));
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> ((BookshelfCacheAccess) world).getFrameBookshelfCache().onChunkChanged(chunk.getPos()));
+
+        // freeze content registries once startup has finished
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> AbstractContentRegistry.freezeAll());
+    }
+
+    private <T> void trackRawIds(Registry<T> registry) {
+        RegistryEntryAddedCallback.event(registry).register((rawId, id, entry) -> AbstractContentRegistry.invalidateUnindexed(registry));
+        RegistryIdRemapCallback.event(registry).register(state -> AbstractContentRegistry.invalidateAll(registry));
+    }
+}
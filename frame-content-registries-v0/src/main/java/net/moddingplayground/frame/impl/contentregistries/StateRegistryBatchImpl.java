@@ -0,0 +1,69 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.state.property.IntProperty;
+import net.minecraft.tag.TagKey;
+import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public final class StateRegistryBatchImpl implements StateRegistry.Batch {
+    private final StateRegistryImpl registry;
+    private final Set<Block> blocks;
+    private final Set<TagKey<Block>> tags;
+    private final Set<BlockState> states;
+
+    public StateRegistryBatchImpl(StateRegistryImpl registry) {
+        this.registry = registry;
+        this.blocks = new ReferenceLinkedOpenHashSet<>();
+        this.tags = new LinkedHashSet<>();
+        this.states = new ReferenceLinkedOpenHashSet<>();
+    }
+
+    @Override
+    public StateRegistry.Batch add(BlockState... states) {
+        Collections.addAll(this.states, states);
+        return this;
+    }
+
+    @Override
+    public StateRegistry.Batch add(Block... blocks) {
+        Collections.addAll(this.blocks, blocks);
+        return this;
+    }
+
+    @Override
+    public StateRegistry.Batch add(TagKey<Block> tag) {
+        this.tags.add(tag);
+        return this;
+    }
+
+    @Override
+    public StateRegistry.Batch addMatching(Block block, Predicate<BlockState> filter) {
+        for (BlockState state : block.getStateManager().getStates()) {
+            if (filter.test(state)) this.states.add(state);
+        }
+        return this;
+    }
+
+    @Override
+    public StateRegistry.Batch addRange(Block block, IntProperty property, int min, int max) {
+        if (!block.getStateManager().getProperties().contains(property)) throw new IllegalArgumentException("%s does not have property %s".formatted(block, property));
+        return this.addMatching(block, state -> {
+            int value = state.get(property);
+            return value >= min && value <= max;
+        });
+    }
+
+    @Override
+    public StateRegistry apply() {
+        this.states.removeIf(state -> this.blocks.contains(state.getBlock()));
+        this.registry.addAll(this.blocks, this.tags, this.states);
+        return this.registry;
+    }
+}
@@ -1,29 +1,42 @@
 package net.moddingplayground.frame.impl.contentregistries;
 
-import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.state.StateManager;
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryEntry;
 import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
 import org.jetbrains.annotations.NotNull;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
- * A stored list of states.
+ * A stored set of states, compiled into a {@link CompiledStateRegistry} for lookups.
+ * Blocks that are registered as a whole are stored separately and only expanded into their states when compiled.
+ *
+ * <p>Blocks of added tags are resolved when compiling, and registries with tags
+ * are recompiled whenever the block tags are repopulated.</p>
  */
-public final class StateRegistryImpl implements StateRegistry {
-    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
-
-    private final List<BlockState> states;
+public final class StateRegistryImpl extends AbstractContentRegistry<BlockState, CompiledStateRegistry> implements StateRegistry {
+    private final Set<Block> blocks;
+    private final Set<TagKey<Block>> tags;
+    private final Set<BlockState> states;
+    private final Reference2IntMap<Block> counts;
     private final Predicate<BlockState> predicate;
 
     public StateRegistryImpl(Predicate<BlockState> predicate) {
-        this.states = Lists.newArrayList();
+        super(Registry.BLOCK);
+        this.blocks = new ReferenceLinkedOpenHashSet<>();
+        this.tags = new LinkedHashSet<>();
+        this.states = new ReferenceLinkedOpenHashSet<>();
+        this.counts = new Reference2IntOpenHashMap<>();
         this.predicate = predicate;
     }
 
@@ -37,35 +50,118 @@ public final class StateRegistryImpl implements StateRegistry {
 
     @Override
     public StateRegistry add(BlockState... states) {
-        for (BlockState state : states) {
-            if (!this.predicate.test(state)) LOGGER.warn("Registering {} to a block registry did not match its predicate! Expect unintended behavior or crashing", state);
-            this.states.add(state);
-        }
-        return this;
+        return states.length == 1 ? this.addState(states[0]) : this.batch().add(states).apply();
     }
 
     @Override
     public StateRegistry add(Block... blocks) {
-        for (Block block : blocks) {
+        return blocks.length == 1 ? this.addBlock(blocks[0]) : this.batch().add(blocks).apply();
+    }
+
+    @Override
+    public synchronized StateRegistry add(TagKey<Block> tag) {
+        this.checkNotFrozen();
+        if (this.tags.add(tag)) this.invalidate();
+        return this;
+    }
+
+    @Override
+    public Batch batch() {
+        return new StateRegistryBatchImpl(this);
+    }
+
+    private synchronized StateRegistry addState(BlockState state) {
+        this.checkNotFrozen();
+        if (this.putState(state)) this.invalidate();
+        return this;
+    }
+
+    private synchronized StateRegistry addBlock(Block block) {
+        this.checkNotFrozen();
+        if (this.putBlock(block)) this.invalidate();
+        return this;
+    }
+
+    /**
+     * Adds the contents of a batch. States of blocks that are added as a whole are expected to be excluded already.
+     */
+    synchronized void addAll(Set<Block> blocks, Set<TagKey<Block>> tags, Set<BlockState> states) {
+        this.checkNotFrozen();
+        blocks.forEach(this::putBlock);
+        this.tags.addAll(tags);
+        states.forEach(this::putState);
+        this.invalidate();
+    }
+
+    private boolean putBlock(Block block) {
+        if (!this.blocks.add(block)) return false;
+        if (this.counts.removeInt(block) > 0) {
+            // the block is now covered as a whole, drop its individual states
             StateManager<Block, BlockState> manager = block.getStateManager();
-            this.add(manager.getStates().toArray(BlockState[]::new));
+            manager.getStates().forEach(this.states::remove);
         }
-        return this;
+        return true;
+    }
+
+    private boolean putState(BlockState state) {
+        Block block = state.getBlock();
+        if (this.blocks.contains(block) || !this.states.add(state)) return false;
+        this.counts.put(block, this.counts.getInt(block) + 1);
+        return true;
     }
 
     @Override
     public boolean contains(BlockState state) {
-        return this.states.contains(state);
+        return this.compiled().contains(state);
     }
 
     @Override
     public boolean contains(Block block) {
-        StateManager<Block, BlockState> manager = block.getStateManager();
-        return manager.getStates().stream().anyMatch(this.states::contains);
+        return this.compiled().contains(block);
+    }
+
+    @Override
+    public boolean containsAll(Block block) {
+        return this.compiled().containsAll(block);
     }
 
     @Override
     public @NotNull Iterator<BlockState> iterator() {
-        return this.states.iterator();
+        return this.compiled().states().values().iterator();
+    }
+
+    @Override
+    public StateRegistry freeze() {
+        this.freezeRegistry();
+        return this;
+    }
+
+    @Override
+    public StateRegistry thaw() {
+        this.thawRegistry();
+        return this;
+    }
+
+    @Override
+    protected CompiledStateRegistry build() {
+        Set<Block> blocks = this.blocks;
+        if (!this.tags.isEmpty()) {
+            blocks = new ReferenceLinkedOpenHashSet<>(blocks);
+            for (TagKey<Block> tag : this.tags) {
+                for (RegistryEntry<Block> entry : Registry.BLOCK.iterateEntries(tag)) blocks.add(entry.value());
+            }
+        }
+
+        return CompiledStateRegistry.compile(blocks, this.states, this.counts, this.predicate);
+    }
+
+    @Override
+    protected boolean hasTags() {
+        return !this.tags.isEmpty();
+    }
+
+    @Override
+    protected CompiledContentRegistry<BlockState> getContents(CompiledStateRegistry compiled) {
+        return compiled.states();
     }
 }
@@ -0,0 +1,22 @@
+package net.moddingplayground.frame.impl.contentregistries.client;
+
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.moddingplayground.frame.impl.contentregistries.AbstractContentRegistry;
+import net.moddingplayground.frame.impl.contentregistries.BookshelfCacheAccess;
+
+@Environment(EnvType.CLIENT)
+public final class FrameContentRegistriesClientImpl implements ClientModInitializer {
+    @Override
+    public void onInitializeClient() {
+        // drop cached bookshelves of tables next to loaded and unloaded chunks
+        ClientChunkEvents.CHUNK_LOAD.register((world, chunk) -> ((BookshelfCacheAccess) world).getFrameBookshelfCache().onChunkChanged(chunk.getPos()));
+        ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> ((BookshelfCacheAccess) world).getFrameBookshelfCache().onChunkChanged(chunk.getPos()));
+
+        // freeze content registries once startup has finished
+        ClientLifecycleEvents.CLIENT_STARTED.register(client -> AbstractContentRegistry.freezeAll());
+    }
+}
@@ -0,0 +1,13 @@
+package net.moddingplayground.frame.impl.contentregistries.client;
+
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+public interface SplashTextAccess {
+    /**
+     * @return the registered splash chosen by the last draw, or {@code null} if it was a vanilla one
+     */
+    @Nullable Supplier<Text> takeFrameSplashText();
+}
@@ -6,21 +6,29 @@ import net.fabricmc.api.Environment;
 import net.minecraft.text.Style;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.math.random.Random;
 import net.moddingplayground.frame.api.contentregistries.v0.client.SplashesRegistry;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
+/**
+ * Stores registered splashes and publishes an immutable {@link Snapshot} of them,
+ * which is only rebuilt when a splash is registered.
+ */
 @Environment(EnvType.CLIENT)
 public final class SplashesRegistryImpl implements SplashesRegistry {
     private final List<Supplier<Text>> values = new ArrayList<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     public SplashesRegistryImpl() {}
 
     @Override
-    public void register(Supplier<Text> text) {
+    public synchronized void register(Supplier<Text> text) {
         this.values.add(text);
+        this.snapshot = new Snapshot(this.snapshot.version() + 1, ImmutableList.copyOf(this.values));
     }
 
     @Override
@@ -45,6 +53,42 @@ public final class SplashesRegistryImpl implements SplashesRegistry {
 
     @Override
     public List<Supplier<Text>> values() {
-        return ImmutableList.copyOf(this.values);
+        return this.snapshot.values();
+    }
+
+    public Snapshot snapshot() {
+        return this.snapshot;
+    }
+
+    public static Snapshot getSnapshot() {
+        return ((SplashesRegistryImpl) SplashesRegistry.INSTANCE).snapshot();
+    }
+
+    /**
+     * The registered splashes at some point in time.
+     *
+     * @param version incremented with every registered splash
+     * @param values every registered splash, in order of registration
+     */
+    public record Snapshot(int version, List<Supplier<Text>> values) {
+        public static final Snapshot EMPTY = new Snapshot(0, ImmutableList.of());
+
+        /**
+         * Picks uniformly across vanilla and registered splashes with a single draw.
+         *
+         * @param vanilla the number of vanilla splashes
+         * @return the index of a vanilla splash if below {@code vanilla}, otherwise a registered splash offset by {@code vanilla}
+         */
+        public int sample(Random random, int vanilla) {
+            return random.nextInt(vanilla + this.values.size());
+        }
+
+        /**
+         * @return the registered splash at a sampled index, or {@code null} if a vanilla splash was sampled
+         */
+        @Nullable
+        public Supplier<Text> get(int index, int vanilla) {
+            return index >= vanilla ? this.values.get(index - vanilla) : null;
+        }
     }
 }
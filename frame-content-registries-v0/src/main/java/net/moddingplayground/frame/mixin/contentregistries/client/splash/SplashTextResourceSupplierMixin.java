@@ -5,10 +5,13 @@ import net.fabricmc.api.Environment;
 import net.minecraft.client.resource.SplashTextResourceSupplier;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.random.Random;
-import net.moddingplayground.frame.api.contentregistries.v0.client.SplashesRegistry;
+import net.moddingplayground.frame.impl.contentregistries.client.SplashTextAccess;
+import net.moddingplayground.frame.impl.contentregistries.client.SplashesRegistryImpl;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -18,10 +21,12 @@ import java.util.function.Supplier;
 
 @Environment(EnvType.CLIENT)
 @Mixin(SplashTextResourceSupplier.class)
-public class SplashTextResourceSupplierMixin {
+public class SplashTextResourceSupplierMixin implements SplashTextAccess {
     @Shadow @Final private List<String> splashTexts;
     @Shadow @Final private static Random RANDOM;
 
+    @Unique @Nullable private Supplier<Text> frameSplashText;
+
     @Inject(
         method = "get",
         at = @At(
@@ -32,9 +37,17 @@ public class SplashTextResourceSupplierMixin {
         cancellable = true
     )
     private void onGet(CallbackInfoReturnable<String> cir) {
-        List<Supplier<Text>> extra = SplashesRegistry.INSTANCE.values();
+        SplashesRegistryImpl.Snapshot snapshot = SplashesRegistryImpl.getSnapshot();
         int vanilla = this.splashTexts.size();
-        int index = RANDOM.nextInt(vanilla + extra.size());
-        if (index > vanilla) cir.setReturnValue(null);
+        int index = snapshot.sample(RANDOM, vanilla);
+        this.frameSplashText = snapshot.get(index, vanilla);
+        cir.setReturnValue(this.frameSplashText == null ? this.splashTexts.get(index) : null);
+    }
+
+    @Override
+    public @Nullable Supplier<Text> takeFrameSplashText() {
+        Supplier<Text> text = this.frameSplashText;
+        this.frameSplashText = null;
+        return text;
     }
 }
@@ -5,12 +5,12 @@ import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.TitleScreen;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.OrderedText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Util;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3f;
-import net.minecraft.util.math.random.Random;
-import net.moddingplayground.frame.api.contentregistries.v0.client.SplashesRegistry;
+import net.moddingplayground.frame.impl.contentregistries.client.SplashTextAccess;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -20,7 +20,6 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 
-import java.util.List;
 import java.util.function.Supplier;
 
 @Environment(EnvType.CLIENT)
@@ -28,7 +27,8 @@ import java.util.function.Supplier;
 public class TitleScreenMixin extends Screen {
     @Shadow @Nullable private String splashText;
 
-    @Unique private Text frameSplashText;
+    @Unique private OrderedText frameSplashText;
+    @Unique private int frameSplashWidth;
 
     private TitleScreenMixin(Text title) {
         super(title);
@@ -45,8 +45,13 @@ public class TitleScreenMixin extends Screen {
     )
     private void onInitSplashText(CallbackInfo ci) {
         if (this.splashText == null) {
-            List<Supplier<Text>> extra = SplashesRegistry.INSTANCE.values();
-            if (!extra.isEmpty()) this.frameSplashText = extra.get(Random.create().nextInt(extra.size())).get();
+            // the splash was drawn by the loader, only resolve the chosen one
+            Supplier<Text> text = ((SplashTextAccess) this.client.getSplashTextLoader()).takeFrameSplashText();
+            if (text != null) {
+                // lay the splash out once, rendering only scales and draws it
+                this.frameSplashText = text.get().asOrderedText();
+                this.frameSplashWidth = this.textRenderer.getWidth(this.frameSplashText);
+            }
         }
     }
 
@@ -72,10 +77,10 @@ public class TitleScreenMixin extends Screen {
                 MathHelper.sin(
                     (float) (Util.getMeasuringTimeMs() % 1000L) / 1000.0F * (float) (Math.PI * 2)
                 ) * 0.1F
-            )) * 100F / (float)(this.textRenderer.getWidth(this.frameSplashText) + 32);
+            )) * 100F / (float)(this.frameSplashWidth + 32);
 
             matrices.scale(scale, scale, scale);
-            drawCenteredText(matrices, this.textRenderer, this.frameSplashText, 0, -8, 0xFFFF00 | l);
+            this.textRenderer.drawWithShadow(matrices, this.frameSplashText, -this.frameSplashWidth / 2, -8, 0xFFFF00 | l);
 
             matrices.pop();
         }
@@ -0,0 +1,28 @@
+package net.moddingplayground.frame.mixin.contentregistries.state;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.moddingplayground.frame.impl.contentregistries.BookshelfCache;
+import net.moddingplayground.frame.impl.contentregistries.BookshelfCacheAccess;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(World.class)
+public class WorldMixin implements BookshelfCacheAccess {
+    @Unique private final BookshelfCache bookshelfCache = new BookshelfCache();
+
+    @Inject(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;II)Z", at = @At("RETURN"))
+    private void onSetBlockState(BlockPos pos, BlockState state, int flags, int maxUpdateDepth, CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ()) this.bookshelfCache.onBlockChanged(pos);
+    }
+
+    @Unique
+    @Override
+    public BookshelfCache getFrameBookshelfCache() {
+        return this.bookshelfCache;
+    }
+}
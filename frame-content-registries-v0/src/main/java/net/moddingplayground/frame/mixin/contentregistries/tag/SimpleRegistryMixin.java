@@ -0,0 +1,24 @@
+package net.moddingplayground.frame.mixin.contentregistries.tag;
+
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.SimpleRegistry;
+import net.moddingplayground.frame.impl.contentregistries.AbstractContentRegistry;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.Map;
+
+@Mixin(SimpleRegistry.class)
+public class SimpleRegistryMixin {
+    @Inject(method = "populateTags", at = @At("TAIL"))
+    private void onPopulateTags(Map<?, ?> tagEntries, CallbackInfo ci) {
+        AbstractContentRegistry.recompileTagged((Registry<?>) (Object) this);
+    }
+
+    @Inject(method = "clearTags", at = @At("TAIL"))
+    private void onClearTags(CallbackInfo ci) {
+        AbstractContentRegistry.recompileTagged((Registry<?>) (Object) this);
+    }
+}
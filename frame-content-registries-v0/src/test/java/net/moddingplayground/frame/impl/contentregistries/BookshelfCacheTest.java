@@ -0,0 +1,143 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.BlockView;
+import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
+import net.moddingplayground.frame.test.BootstrapExtension;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(BootstrapExtension.class)
+class BookshelfCacheTest {
+    private static final BlockPos TABLE = new BlockPos(8, 64, 8);
+    private static final BlockPos OFFSET = new BlockPos(2, 0, 0);
+
+    private TestWorld world;
+    private StateRegistry bookshelves;
+    private BookshelfCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.world = new TestWorld();
+        StateRegistryImpl bookshelves = new StateRegistryImpl();
+        this.bookshelves = bookshelves;
+        this.cache = new BookshelfCache(bookshelves);
+    }
+
+    @Test
+    void findsAccessibleBookshelves() {
+        this.world.set(TABLE.add(OFFSET), Blocks.BOOKSHELF.getDefaultState());
+
+        assertTrue(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, new BlockPos(-2, 0, 0)));
+    }
+
+    @Test
+    void cachesOnlyPowerProviderOffsets() {
+        assertTrue(BookshelfCache.isCached(OFFSET));
+        assertTrue(BookshelfCache.isCached(new BlockPos(-2, 1, 2)));
+        assertFalse(BookshelfCache.isCached(new BlockPos(1, 0, 1)));
+        assertFalse(BookshelfCache.isCached(new BlockPos(3, 0, 0)));
+        assertFalse(BookshelfCache.isCached(new BlockPos(2, -1, 0)));
+        assertFalse(BookshelfCache.isCached(new BlockPos(2, 2, 0)));
+    }
+
+    @Test
+    void requiresAirInBetween() {
+        this.world.set(TABLE.add(OFFSET), Blocks.BOOKSHELF.getDefaultState());
+        this.world.set(TABLE.add(1, 0, 0), Blocks.STONE.getDefaultState());
+
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+    }
+
+    @Test
+    void keepsEntriesUntilABlockChanges() {
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+
+        // not seen until the cache is told about the change
+        this.world.set(TABLE.add(OFFSET), Blocks.BOOKSHELF.getDefaultState());
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+
+        this.cache.onBlockChanged(TABLE.add(OFFSET));
+        assertTrue(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+    }
+
+    @Test
+    void ignoresChangesOutsideTheArea() {
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+        this.world.set(TABLE.add(OFFSET), Blocks.BOOKSHELF.getDefaultState());
+
+        this.cache.onBlockChanged(TABLE.add(3, 0, 0));
+        this.cache.onBlockChanged(TABLE.add(2, 2, 0));
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+    }
+
+    @Test
+    void dropsEntriesOfChangedChunks() {
+        BlockPos table = new BlockPos(15, 64, 8);
+        assertFalse(this.cache.canAccessBookshelf(this.world, table, OFFSET));
+        this.world.set(table.add(OFFSET), Blocks.BOOKSHELF.getDefaultState());
+
+        this.cache.onChunkChanged(new ChunkPos(5, 5));
+        assertFalse(this.cache.canAccessBookshelf(this.world, table, OFFSET));
+
+        // the area of the table reaches into the neighbouring chunk
+        this.cache.onChunkChanged(new ChunkPos(1, 0));
+        assertTrue(this.cache.canAccessBookshelf(this.world, table, OFFSET));
+    }
+
+    @Test
+    void dropsEntriesWhenBookshelvesChange() {
+        this.world.set(TABLE.add(OFFSET), Blocks.MELON.getDefaultState());
+        assertFalse(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+
+        this.bookshelves.add(Blocks.MELON);
+        assertTrue(this.cache.canAccessBookshelf(this.world, TABLE, OFFSET));
+    }
+
+    private static final class TestWorld implements BlockView {
+        private final Map<BlockPos, BlockState> states = new HashMap<>();
+
+        public void set(BlockPos pos, BlockState state) {
+            this.states.put(pos.toImmutable(), state);
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            return this.states.getOrDefault(pos, Blocks.AIR.getDefaultState());
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return this.getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getBottomY() {
+            return -64;
+        }
+    }
+}
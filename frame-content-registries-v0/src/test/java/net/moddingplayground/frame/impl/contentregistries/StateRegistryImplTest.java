@@ -0,0 +1,86 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.CropBlock;
+import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
+import net.moddingplayground.frame.test.BootstrapExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(BootstrapExtension.class)
+class StateRegistryImplTest {
+    @Test
+    void containsAddedStates() {
+        BlockState unlit = Blocks.FURNACE.getDefaultState();
+        BlockState lit = unlit.with(AbstractFurnaceBlock.LIT, true);
+        StateRegistry registry = new StateRegistryImpl().add(lit);
+
+        assertTrue(registry.contains(lit));
+        assertFalse(registry.contains(unlit));
+        assertFalse(registry.contains(Blocks.STONE.getDefaultState()));
+    }
+
+    @Test
+    void indexesBlocks() {
+        StateRegistry registry = new StateRegistryImpl().add(Blocks.FURNACE.getDefaultState()).add(Blocks.STONE);
+
+        assertTrue(registry.contains(Blocks.FURNACE));
+        assertFalse(registry.containsAll(Blocks.FURNACE));
+        assertTrue(registry.contains(Blocks.STONE));
+        assertTrue(registry.containsAll(Blocks.STONE));
+        assertFalse(registry.contains(Blocks.DIRT));
+    }
+
+    @Test
+    void addingEveryStateCoversTheBlock() {
+        StateRegistry registry = new StateRegistryImpl();
+        Blocks.FURNACE.getStateManager().getStates().forEach(registry::add);
+
+        assertTrue(registry.containsAll(Blocks.FURNACE));
+    }
+
+    @Test
+    void blocksReplaceTheirStates() {
+        StateRegistry registry = new StateRegistryImpl().add(Blocks.FURNACE.getDefaultState()).add(Blocks.FURNACE);
+
+        assertEquals(Blocks.FURNACE.getStateManager().getStates(), ImmutableList.copyOf(registry));
+        assertTrue(registry.containsAll(Blocks.FURNACE));
+    }
+
+    @Test
+    void recompilesAfterAdding() {
+        StateRegistry registry = new StateRegistryImpl().add(Blocks.STONE);
+        assertFalse(registry.contains(Blocks.DIRT.getDefaultState()));
+
+        registry.add(Blocks.DIRT);
+        assertTrue(registry.contains(Blocks.DIRT.getDefaultState()));
+    }
+
+    @Test
+    void batchAddsRanges() {
+        StateRegistry registry = new StateRegistryImpl().batch().addRange(Blocks.WHEAT, CropBlock.AGE, 2, 4).apply();
+
+        for (BlockState state : Blocks.WHEAT.getStateManager().getStates()) {
+            int age = state.get(CropBlock.AGE);
+            assertEquals(age >= 2 && age <= 4, registry.contains(state), "age " + age);
+        }
+        assertTrue(registry.contains(Blocks.WHEAT));
+        assertFalse(registry.containsAll(Blocks.WHEAT));
+    }
+
+    @Test
+    void frozenRegistriesRejectAdditions() {
+        StateRegistry registry = new StateRegistryImpl().add(Blocks.STONE).freeze();
+
+        assertTrue(registry.isFrozen());
+        assertThrows(IllegalStateException.class, () -> registry.add(Blocks.DIRT));
+
+        registry.thaw().add(Blocks.DIRT);
+        assertTrue(registry.contains(Blocks.DIRT));
+    }
+}
@@ -0,0 +1,74 @@
+package net.moddingplayground.frame.impl.contentregistries;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryEntry;
+import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
+import net.moddingplayground.frame.test.BootstrapExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(BootstrapExtension.class)
+class StateRegistryTagTest {
+    private static final TagKey<Block> TAG = TagKey.of(Registry.BLOCK_KEY, new Identifier("frame-test", "state_registry"));
+
+    @AfterEach
+    void clearTags() {
+        Registry.BLOCK.clearTags();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void populate(Block... blocks) {
+        Registry.BLOCK.populateTags(Map.of(TAG, Arrays.stream(blocks).<RegistryEntry<Block>>map(Block::getRegistryEntry).toList()));
+    }
+
+    @Test
+    void resolvesTagsWhenCompiling() {
+        populate(Blocks.STONE);
+        StateRegistry registry = StateRegistry.of(TAG);
+
+        assertTrue(registry.containsAll(Blocks.STONE));
+        assertFalse(registry.contains(Blocks.DIRT));
+    }
+
+    @Test
+    void recompilesWhenTagsArePopulated() {
+        populate(Blocks.STONE);
+        StateRegistry registry = StateRegistry.of(TAG);
+        assertTrue(registry.contains(Blocks.STONE));
+
+        populate(Blocks.DIRT);
+        assertFalse(registry.contains(Blocks.STONE));
+        assertTrue(registry.contains(Blocks.DIRT.getDefaultState()));
+    }
+
+    @Test
+    void recompilesWhenTagsAreCleared() {
+        populate(Blocks.STONE);
+        StateRegistry registry = new StateRegistryImpl().add(TAG).add(Blocks.DIRT);
+        assertTrue(registry.contains(Blocks.STONE));
+
+        Registry.BLOCK.clearTags();
+        assertFalse(registry.contains(Blocks.STONE));
+        assertTrue(registry.contains(Blocks.DIRT));
+    }
+
+    @Test
+    void keepsTagsOverFreezing() {
+        populate(Blocks.STONE);
+        StateRegistry registry = StateRegistry.of(TAG).freeze();
+
+        populate(Blocks.STONE, Blocks.DIRT);
+        assertTrue(registry.contains(Blocks.STONE));
+        assertTrue(registry.contains(Blocks.DIRT));
+    }
+}
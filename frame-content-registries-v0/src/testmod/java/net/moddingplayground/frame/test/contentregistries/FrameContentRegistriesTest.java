@@ -2,6 +2,9 @@ package net.moddingplayground.frame.test.contentregistries;
 
 import net.fabricmc.api.ModInitializer;
 import net.minecraft.block.Blocks;
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
 import net.moddingplayground.frame.api.contentregistries.v0.StateRegistry;
 
 public class FrameContentRegistriesTest implements ModInitializer {
@@ -10,5 +13,6 @@ public class FrameContentRegistriesTest implements ModInitializer {
         StateRegistry.BOOKSHELVES.add(Blocks.ACACIA_LEAVES);
         StateRegistry.LADDERS.add(Blocks.ACACIA_BUTTON);
         StateRegistry.LADDERS_DEATH_MESSAGES.add(Blocks.BIRCH_BUTTON);
+        StateRegistry.BOOKSHELVES.add(TagKey.of(Registry.BLOCK_KEY, new Identifier("frame-content-registries-test", "bookshelves")));
     }
 }
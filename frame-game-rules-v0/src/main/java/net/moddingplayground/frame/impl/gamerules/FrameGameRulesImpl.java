@@ -7,8 +7,8 @@ import net.moddingplayground.frame.api.gamerules.v0.SynchronizedBooleanGameRuleR
 public final class FrameGameRulesImpl implements ModInitializer {
     @Override
     public void onInitialize() {
-        // send game rule update on join
+        // send every game rule on join
         SynchronizedBooleanGameRuleRegistryImpl impl = (SynchronizedBooleanGameRuleRegistryImpl) SynchronizedBooleanGameRuleRegistry.INSTANCE;
-        ServerPlayConnectionEvents.INIT.register((handler, server) -> impl.values.keySet().forEach(key -> impl.synchronize(handler, server, key)));
+        ServerPlayConnectionEvents.INIT.register(impl::synchronize);
     }
 }
@@ -1,55 +1,70 @@
 package net.moddingplayground.frame.impl.gamerules;
 
-import com.google.common.base.Suppliers;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.Packet;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.Util;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
 import net.moddingplayground.frame.api.gamerules.v0.SynchronizedBooleanGameRuleRegistry;
-import net.moddingplayground.frame.mixin.gamerules.GameRulesAccessor;
 import net.moddingplayground.frame.mixin.gamerules.GameRulesRuleAccessor;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import static net.minecraft.world.GameRules.*;
 
 public final class SynchronizedBooleanGameRuleRegistryImpl implements SynchronizedBooleanGameRuleRegistry {
-    public static final Identifier PACKET_ID = new Identifier("frame", "game_rule_sync");
-    public static final Function<Type<?>, Key<?>> KEY_CACHE = Util.memoize(SynchronizedBooleanGameRuleRegistryImpl::typeToKey);
+    public static final Identifier PACKET_ID = new Identifier("frame", "game_rule_update");
+    public static final Identifier SNAPSHOT_PACKET_ID = new Identifier("frame", "game_rule_snapshot");
 
     public final Map<Key<BooleanRule>, Boolean> defaults, values;
-    public final Supplier<Map<String, BooleanRule>> idCache;
+
+    /**
+     * Every registered key in the order of registration. Both sides register the same rules in the same order,
+     * so packets refer to rules by their index.
+     */
+    private final List<Key<BooleanRule>> keys;
+    private volatile SynchronizedGameRuleIndex index;
 
     public SynchronizedBooleanGameRuleRegistryImpl() {
         this.defaults = Maps.newHashMap();
         this.values = Maps.newHashMap();
-
-        this.idCache = Suppliers.memoize(() -> Util.make(ImmutableMap.<String, BooleanRule>builder(), map -> {
-            GameRules rules = new GameRules();
-            this.values.keySet().forEach(key -> map.put(key.getName(), rules.get(key)));
-        }).build());
+        this.keys = new ArrayList<>();
     }
 
     @Override
-    public Key<BooleanRule> register(Key<BooleanRule> key, boolean defaultValue) {
-        this.defaults.put(key, defaultValue);
+    public synchronized Key<BooleanRule> register(Key<BooleanRule> key, boolean defaultValue) {
+        if (this.defaults.put(key, defaultValue) == null) {
+            this.keys.add(key);
+            this.index = null;
+        }
         this.values.put(key, defaultValue);
         return key;
     }
 
+    /**
+     * Returns the index of all registered rules, built on first use once game rules have been registered.
+     */
+    public SynchronizedGameRuleIndex getIndex() {
+        SynchronizedGameRuleIndex index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) this.index = index = SynchronizedGameRuleIndex.build(this.keys);
+            }
+        }
+        return index;
+    }
+
     @Override
     public boolean get(World world, Key<BooleanRule> key) {
         return world.isClient ? this.values.get(key) : world.getGameRules().getBoolean(key);
@@ -60,28 +75,29 @@ public final class SynchronizedBooleanGameRuleRegistryImpl implements Synchroniz
     }
 
     public void synchronize(MinecraftServer server, BooleanRule rule) {
-        GameRulesRuleAccessor access = (GameRulesRuleAccessor) rule;
-        Key<?> key = KEY_CACHE.apply(access.getType());
-        for (ServerPlayerEntity player : PlayerLookup.all(server)) this.synchronize(player, key.getName(), rule.get());
+        int id = this.getIndex().getId(((GameRulesRuleAccessor) rule).getType());
+        if (id == SynchronizedGameRuleIndex.NONE) return;
+
+        PacketByteBuf buf = PacketByteBufs.create();
+        buf.writeVarInt(id);
+        buf.writeBoolean(rule.get());
+
+        Packet<?> packet = ServerPlayNetworking.createS2CPacket(PACKET_ID, buf);
+        for (ServerPlayerEntity player : PlayerLookup.all(server)) player.networkHandler.sendPacket(packet);
     }
 
-    public void synchronize(ServerPlayNetworkHandler handler, MinecraftServer server, Key<BooleanRule> key) {
+    /**
+     * Sends the values of every rule at once, packed as bits in the order of registration,
+     * together with the layout of the rules so that clients with different rules can ignore them.
+     */
+    public void synchronize(ServerPlayNetworkHandler handler, MinecraftServer server) {
+        SynchronizedGameRuleIndex index = this.getIndex();
         GameRules rules = server.getGameRules();
-        BooleanRule rule = rules.get(key);
-        this.synchronize(handler.player, key.getName(), rule.get());
-    }
+        BitSet values = new BitSet(index.size());
+        for (int id = 0; id < index.size(); id++) values.set(id, rules.getBoolean(index.getKey(id)));
 
-    public void synchronize(ServerPlayerEntity player, String id, boolean value) {
         PacketByteBuf buf = PacketByteBufs.create();
-        buf.writeString(id);
-        buf.writeBoolean(value);
-        ServerPlayNetworking.send(player, PACKET_ID, buf);
-    }
-
-    public static Key<?> typeToKey(Type<?> type) {
-        Map<Key<?>, Type<?>> map = GameRulesAccessor.getRULE_TYPES();
-        Set<Map.Entry<Key<?>, Type<?>>> entries = map.entrySet();
-        Map<Type<?>, Key<?>> inverse = entries.stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
-        return inverse.get(type);
+        new SynchronizedGameRuleSnapshot(index.size(), index.getLayout(), values).write(buf);
+        ServerPlayNetworking.send(handler.player, SNAPSHOT_PACKET_ID, buf);
     }
 }
@@ -0,0 +1,71 @@
+package net.moddingplayground.frame.impl.gamerules;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.moddingplayground.frame.mixin.gamerules.GameRulesAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static net.minecraft.world.GameRules.*;
+
+/**
+ * An immutable index of the synchronized game rules, resolving the compact id of a rule from its {@link Type}
+ * and its {@link Key} from the id. Ids are positions in the order of registration.
+ */
+public final class SynchronizedGameRuleIndex {
+    public static final int NONE = -1;
+
+    private final Key<BooleanRule>[] keys;
+    private final Reference2IntMap<Type<?>> typeIds;
+    private final long layout;
+
+    @SuppressWarnings("unchecked")
+    SynchronizedGameRuleIndex(List<Key<BooleanRule>> keys, Map<Key<?>, Type<?>> ruleTypes) {
+        int size = keys.size();
+        this.keys = keys.toArray(new Key[size]);
+        this.typeIds = new Reference2IntOpenHashMap<>(size);
+        this.typeIds.defaultReturnValue(NONE);
+
+        Hasher layout = Hashing.murmur3_128().newHasher();
+        for (int id = 0; id < size; id++) {
+            Key<BooleanRule> key = this.keys[id];
+            Type<?> type = ruleTypes.get(key);
+            if (type == null) throw new IllegalStateException("Synchronized game rule '%s' is not registered".formatted(key.getName()));
+
+            this.typeIds.put(type, id);
+            layout.putInt(key.getName().length()).putString(key.getName(), StandardCharsets.UTF_8);
+        }
+        this.layout = layout.hash().asLong();
+    }
+
+    public static SynchronizedGameRuleIndex build(List<Key<BooleanRule>> keys) {
+        return new SynchronizedGameRuleIndex(keys, GameRulesAccessor.getRULE_TYPES());
+    }
+
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * @return a hash of the names of every rule in the order of their ids, which both sides must agree on
+     */
+    public long getLayout() {
+        return this.layout;
+    }
+
+    public int getId(Type<?> type) {
+        return this.typeIds.getInt(type);
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < this.keys.length;
+    }
+
+    public Key<BooleanRule> getKey(int id) {
+        return this.keys[id];
+    }
+}
@@ -0,0 +1,31 @@
+package net.moddingplayground.frame.impl.gamerules;
+
+import net.minecraft.network.PacketByteBuf;
+
+import java.util.BitSet;
+
+/**
+ * The values of every synchronized rule, sent to players as they join.
+ *
+ * @param size the number of rules the values are for
+ * @param layout the {@linkplain SynchronizedGameRuleIndex#getLayout() layout} of the rules on the sending side
+ * @param values the value of each rule, indexed by its id
+ */
+public record SynchronizedGameRuleSnapshot(int size, long layout, BitSet values) {
+    public static SynchronizedGameRuleSnapshot read(PacketByteBuf buf) {
+        return new SynchronizedGameRuleSnapshot(buf.readVarInt(), buf.readLong(), buf.readBitSet());
+    }
+
+    public void write(PacketByteBuf buf) {
+        buf.writeVarInt(this.size);
+        buf.writeLong(this.layout);
+        buf.writeBitSet(this.values);
+    }
+
+    /**
+     * @return whether this snapshot was sent for the same rules, registered in the same order, as the given index
+     */
+    public boolean matches(SynchronizedGameRuleIndex index) {
+        return this.size == index.size() && this.layout == index.getLayout();
+    }
+}
@@ -7,29 +7,53 @@ import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.moddingplayground.frame.api.gamerules.v0.SynchronizedBooleanGameRuleRegistry;
 import net.moddingplayground.frame.impl.gamerules.SynchronizedBooleanGameRuleRegistryImpl;
-import net.moddingplayground.frame.mixin.gamerules.GameRulesRuleAccessor;
-
-import static net.minecraft.world.GameRules.*;
+import net.moddingplayground.frame.impl.gamerules.SynchronizedGameRuleIndex;
+import net.moddingplayground.frame.impl.gamerules.SynchronizedGameRuleSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Environment(EnvType.CLIENT)
 public final class FrameGameRulesClientImpl implements ClientModInitializer {
-    @SuppressWarnings("unchecked")
+    private static final Logger LOGGER = LoggerFactory.getLogger("frame");
+
+    /**
+     * Whether the server registered the same rules as the client. Only accessed from the client thread.
+     */
+    private boolean synced;
+
     @Override
     public void onInitializeClient() {
         SynchronizedBooleanGameRuleRegistryImpl impl = (SynchronizedBooleanGameRuleRegistryImpl) SynchronizedBooleanGameRuleRegistry.INSTANCE;
 
         // accept client game rule update
         ClientPlayNetworking.registerGlobalReceiver(SynchronizedBooleanGameRuleRegistryImpl.PACKET_ID, (client, handler, buf, sender) -> {
-            String id = buf.readString();
+            int id = buf.readVarInt();
             boolean value = buf.readBoolean();
+            client.execute(() -> {
+                SynchronizedGameRuleIndex index = impl.getIndex();
+                if (this.synced && index.contains(id)) impl.set(index.getKey(id), value);
+            });
+        });
+
+        // accept all game rules on join
+        ClientPlayNetworking.registerGlobalReceiver(SynchronizedBooleanGameRuleRegistryImpl.SNAPSHOT_PACKET_ID, (client, handler, buf, sender) -> {
+            SynchronizedGameRuleSnapshot snapshot = SynchronizedGameRuleSnapshot.read(buf);
+            client.execute(() -> {
+                SynchronizedGameRuleIndex index = impl.getIndex();
+                this.synced = snapshot.matches(index);
+                if (!this.synced) {
+                    LOGGER.warn("Ignoring synchronized game rules from the server, which registered {} rules that do not match the {} of the client", snapshot.size(), index.size());
+                    return;
+                }
 
-            BooleanRule rule = impl.idCache.get().get(id);
-            GameRulesRuleAccessor access = (GameRulesRuleAccessor) rule;
-            Type<?> type = access.getType();
-            impl.set((Key<BooleanRule>) SynchronizedBooleanGameRuleRegistryImpl.KEY_CACHE.apply(type), value);
+                for (int id = 0; id < index.size(); id++) impl.set(index.getKey(id), snapshot.values().get(id));
+            });
         });
 
         // reset game rules on leave
-        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> impl.values.putAll(impl.defaults));
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(() -> {
+            this.synced = false;
+            impl.values.putAll(impl.defaults);
+        }));
     }
 }
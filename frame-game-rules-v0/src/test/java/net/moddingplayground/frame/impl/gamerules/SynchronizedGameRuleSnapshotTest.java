@@ -0,0 +1,86 @@
+package net.moddingplayground.frame.impl.gamerules;
+
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleFactory;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.minecraft.network.PacketByteBuf;
+import net.moddingplayground.frame.test.BootstrapExtension;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.minecraft.world.GameRules.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(BootstrapExtension.class)
+class SynchronizedGameRuleSnapshotTest {
+    private static final Key<BooleanRule> FIRST = new Key<>("frameTestFirst", Category.MISC);
+    private static final Key<BooleanRule> SECOND = new Key<>("frameTestSecond", Category.MISC);
+    private static final Key<BooleanRule> THIRD = new Key<>("frameTestThird", Category.MISC);
+
+    private static final Map<Key<?>, Type<?>> RULE_TYPES = new HashMap<>();
+
+    @BeforeAll
+    static void registerRuleTypes() {
+        for (Key<BooleanRule> key : List.of(FIRST, SECOND, THIRD)) RULE_TYPES.put(key, GameRuleFactory.createBooleanRule(false));
+    }
+
+    @Test
+    void roundTrips() {
+        BitSet values = new BitSet();
+        values.set(0);
+        values.set(2);
+        SynchronizedGameRuleSnapshot snapshot = new SynchronizedGameRuleSnapshot(3, 42L, values);
+
+        PacketByteBuf buf = PacketByteBufs.create();
+        snapshot.write(buf);
+        assertEquals(snapshot, SynchronizedGameRuleSnapshot.read(buf));
+        assertEquals(0, buf.readableBytes());
+    }
+
+    @Test
+    void matchesSameRules() {
+        SynchronizedGameRuleIndex index = index(FIRST, SECOND, THIRD);
+        assertTrue(snapshot(index).matches(index(FIRST, SECOND, THIRD)));
+    }
+
+    @Test
+    void rejectsRulesInAnotherOrder() {
+        assertFalse(snapshot(index(FIRST, SECOND, THIRD)).matches(index(FIRST, THIRD, SECOND)));
+    }
+
+    @Test
+    void rejectsOtherRules() {
+        assertFalse(snapshot(index(FIRST, SECOND)).matches(index(FIRST, SECOND, THIRD)));
+        assertFalse(snapshot(index(FIRST, SECOND, THIRD)).matches(index(FIRST, SECOND)));
+        assertFalse(snapshot(index(FIRST, SECOND)).matches(index(FIRST, THIRD)));
+    }
+
+    @Test
+    void resolvesIds() {
+        SynchronizedGameRuleIndex index = index(FIRST, SECOND);
+        assertEquals(1, index.getId(RULE_TYPES.get(SECOND)));
+        assertEquals(SynchronizedGameRuleIndex.NONE, index.getId(RULE_TYPES.get(THIRD)));
+        assertSame(SECOND, index.getKey(1));
+        assertFalse(index.contains(2));
+    }
+
+    @Test
+    void rejectsUnregisteredRules() {
+        Key<BooleanRule> unregistered = new Key<>("frameTestUnregistered", Category.MISC);
+        assertThrows(IllegalStateException.class, () -> index(FIRST, unregistered));
+    }
+
+    @SafeVarargs
+    private static SynchronizedGameRuleIndex index(Key<BooleanRule>... keys) {
+        return new SynchronizedGameRuleIndex(List.of(keys), RULE_TYPES);
+    }
+
+    private static SynchronizedGameRuleSnapshot snapshot(SynchronizedGameRuleIndex index) {
+        return new SynchronizedGameRuleSnapshot(index.size(), index.getLayout(), new BitSet());
+    }
+}